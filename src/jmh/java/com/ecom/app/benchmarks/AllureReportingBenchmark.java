@@ -0,0 +1,94 @@
+package com.ecom.app.benchmarks;
+
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ecom.app.utils.AllureReportUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import io.restassured.response.Response;
+
+/**
+ * Per-response cost of AllureReportUtils.logResponse: reading the body, formatting the report text and
+ * handing it to the Allure lifecycle. Results go to a discarding writer so disk speed is not measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AllureReportingBenchmark {
+
+    @Param({"products", "orderHistory"})
+    public String payload;
+
+    private AllureLifecycle lifecycle;
+    private String testUuid;
+    private Response response;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Object body = "products".equals(payload) ? BenchmarkData.productsResponse() : BenchmarkData.orderHistoryResponse();
+        response = BenchmarkData.response(objectMapper.writeValueAsString(body), 250);
+
+        lifecycle = new AllureLifecycle(new DiscardingResultsWriter());
+        Allure.setLifecycle(lifecycle);
+        testUuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().setUuid(testUuid).setName("benchmark"));
+        lifecycle.startTestCase(testUuid);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        lifecycle.stopTestCase(testUuid);
+        lifecycle.writeTestCase(testUuid);
+    }
+
+    @Benchmark
+    public void logResponse() {
+        AllureReportUtils.logResponse(response);
+    }
+
+    @Benchmark
+    public String formatOnly() {
+        return String.format("Status Code: %d\nStatus Line: %s\nResponse Time: %d ms\nResponse Body: %s",
+                response.getStatusCode(), response.getStatusLine(), response.getTime(), response.getBody().asString());
+    }
+
+    private static class DiscardingResultsWriter implements AllureResultsWriter {
+        @Override
+        public void write(TestResult testResult) {
+        }
+
+        @Override
+        public void write(TestResultContainer testResultContainer) {
+        }
+
+        @Override
+        public void write(String source, InputStream attachment) {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecom.app.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.ecom.app.pojo.order.OrderDetails;
+import com.ecom.app.pojo.order.OrderHistoryResponse;
+import com.ecom.app.pojo.order.OrderRequest;
+import com.ecom.app.pojo.product.Product;
+import com.ecom.app.pojo.product.ProductsResponse;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.ContentType;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+
+/**
+ * Payloads shaped like the ecom API responses, sized to a typical product list and order history
+ */
+final class BenchmarkData {
+    static final int PRODUCT_COUNT = 20;
+    static final int ORDER_COUNT = 50;
+
+    private BenchmarkData() {
+    }
+
+    static String id(int i) {
+        return String.format("6581ca979fd99c85e8%06x", i);
+    }
+
+    static OrderRequest orderRequest() {
+        List<OrderRequest.OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            items.add(new OrderRequest.OrderItem("India", id(i)));
+        }
+        return new OrderRequest(items);
+    }
+
+    static ProductsResponse productsResponse() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(new Product(id(i), "PRODUCT " + i, "admin@gmail.com", "fashion", "shirts", 31500 + i,
+                    "Description of product " + i, "https://rahulshettyacademy.com/api/ecom/uploads/productImage_" + i
+                    + ".jpg", "women", id(999), 0));
+        }
+        return new ProductsResponse(products, "All Products fetched Successfully", products.size());
+    }
+
+    static OrderHistoryResponse orderHistoryResponse() {
+        List<OrderDetails> orders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orders.add(new OrderDetails(id(1000 + i), "av1234@gmail.com", id(999), id(i % PRODUCT_COUNT),
+                    "PRODUCT " + (i % PRODUCT_COUNT), "India", String.valueOf(31500 + i), 0));
+        }
+        return new OrderHistoryResponse(orders, "Orders fetched for customer Successfully", orders.size());
+    }
+
+    /**
+     * Build a REST Assured response without a network round trip
+     */
+    static Response response(String body, long timeMillis) {
+        Response response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setStatusLine("HTTP/1.1 200 OK")
+                .setContentType(ContentType.JSON)
+                .setBody(body)
+                .build();
+        ((RestAssuredResponseImpl) response).getGroovyResponse().setFilterContextProperties(
+                Map.of(TimingFilter.RESPONSE_TIME_MILLISECONDS, timeMillis));
+        return response;
+    }
+}
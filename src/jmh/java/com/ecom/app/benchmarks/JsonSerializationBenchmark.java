@@ -0,0 +1,74 @@
+package com.ecom.app.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ecom.app.pojo.order.OrderHistoryResponse;
+import com.ecom.app.pojo.order.OrderRequest;
+import com.ecom.app.pojo.product.ProductsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.restassured.response.Response;
+
+/**
+ * Jackson (de)serialization of the API POJOs, directly and through REST Assured's response.as()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OrderRequest orderRequest;
+    private String productsJson;
+    private String orderHistoryJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        orderRequest = BenchmarkData.orderRequest();
+        productsJson = objectMapper.writeValueAsString(BenchmarkData.productsResponse());
+        orderHistoryJson = objectMapper.writeValueAsString(BenchmarkData.orderHistoryResponse());
+    }
+
+    @Benchmark
+    public String serializeOrderRequest() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(orderRequest);
+    }
+
+    @Benchmark
+    public ProductsResponse deserializeProductsResponse() throws JsonProcessingException {
+        return objectMapper.readValue(productsJson, ProductsResponse.class);
+    }
+
+    @Benchmark
+    public OrderHistoryResponse deserializeOrderHistoryResponse() throws JsonProcessingException {
+        return objectMapper.readValue(orderHistoryJson, OrderHistoryResponse.class);
+    }
+
+    @Benchmark
+    public ProductsResponse responseAsProductsResponse() {
+        // The response is rebuilt each call as REST Assured caches the parsed body per response
+        Response response = BenchmarkData.response(productsJson, 100);
+        return response.as(ProductsResponse.class);
+    }
+
+    @Benchmark
+    public OrderHistoryResponse responseAsOrderHistoryResponse() {
+        Response response = BenchmarkData.response(orderHistoryJson, 100);
+        return response.as(OrderHistoryResponse.class);
+    }
+}
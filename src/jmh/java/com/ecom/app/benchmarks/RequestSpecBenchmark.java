@@ -0,0 +1,56 @@
+package com.ecom.app.benchmarks;
+
+import static io.restassured.RestAssured.given;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ecom.app.specs.RequestSpecificationBuilder;
+
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Cost of obtaining request specs: cached lookups, a full uncached build, and the per-request merge
+ * done by given().spec()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSpecBenchmark {
+    private static final String TOKEN = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.benchmark";
+
+    private long tokenSequence;
+
+    @Benchmark
+    public RequestSpecification defaultSpec() {
+        return RequestSpecificationBuilder.getDefaultRequestSpec();
+    }
+
+    @Benchmark
+    public RequestSpecification authenticatedSpecCached() {
+        return RequestSpecificationBuilder.getAuthenticatedRequestSpec(TOKEN);
+    }
+
+    @Benchmark
+    public RequestSpecification authenticatedSpecBuild() {
+        // A fresh token misses the cache every time, as after each login, so this is a full build
+        return RequestSpecificationBuilder.getAuthenticatedRequestSpec(TOKEN + tokenSequence++);
+    }
+
+    @Benchmark
+    public RequestSpecification givenWithAuthenticatedSpec() {
+        return given().spec(RequestSpecificationBuilder.getAuthenticatedRequestSpec(TOKEN));
+    }
+}
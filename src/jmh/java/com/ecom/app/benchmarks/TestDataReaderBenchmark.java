@@ -0,0 +1,57 @@
+package com.ecom.app.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ecom.app.Tests._01_Login_Tests;
+import com.ecom.app.Utilities.CsvDataProviders;
+import com.ecom.app.Utilities.JSONDataReader;
+
+/**
+ * Test data lookups as the data providers and tests perform them against the files in
+ * src/test/resources/TestData, including the per-call modification check. Run from the project root.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestDataReaderBenchmark {
+    private static final String LOGIN_DATA = "src/test/resources/TestData/loginTestData.json";
+
+    private Method csvTestMethod;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        csvTestMethod = _01_Login_Tests.class.getMethod("test_03_API_verifyMultipleInvalidLoginAttempts",
+                Map.class);
+    }
+
+    @Benchmark
+    public Object jsonPathLookup() {
+        return JSONDataReader.getValueFromJsonPath(LOGIN_DATA, "2.userEmail");
+    }
+
+    @Benchmark
+    public void csvDataProvider(Blackhole blackhole) {
+        Iterator<Object[]> rows = CsvDataProviders.csvReader(csvTestMethod);
+        while (rows.hasNext()) {
+            blackhole.consume(rows.next());
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.ecom.app.PageObjects;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -30,16 +29,14 @@ public class CartPage extends ElementUtils {
             return List.of();
         }
 
-        List<WebElement> titleElements = getElements(cartItemTitles);
-        List<String> titles = titleElements.stream()
-                .map(element -> element.getText().trim())
-                .collect(Collectors.toList());
+        List<String> titles = getTexts(cartItemTitles);
         logger.info("Retrieved " + titles.size() + " products from cart: " + titles);
         return titles;
     }
 
     public void verifyProductInCart(String productName) {
         By productLocator = By.xpath("//h3[contains(text(),'" + productName + "')]");
+        waitForCartToLoad();
         if (isElementDisplayed(productLocator)) {
             logger.info("Product verified in cart: " + productName);
         } else {
@@ -51,8 +48,10 @@ public class CartPage extends ElementUtils {
         logger.info("Removing product from cart: " + productName);
         By removeButton = By.xpath("//h3[contains(text(),'" + productName + "')]/../..//button[contains(@class,'btn btn-danger')]");
 
+        waitForCartToLoad();
         if (isElementDisplayed(removeButton)) {
             clickOnElement(removeButton);
+            waitForElementToDisappear(By.xpath("//h3[contains(text(),'" + productName + "')]"));
             logger.info("Successfully removed product: " + productName);
         } else {
             logger.warning("Remove button not found for product: " + productName);
@@ -74,6 +73,7 @@ public class CartPage extends ElementUtils {
     }
 
     public String getCartTotalPrice() {
+        waitForCartToLoad();
         if (isElementDisplayed(totalPrice)) {
             String total = getText(totalPrice);
             logger.info("Cart total price: " + total);
@@ -85,11 +85,20 @@ public class CartPage extends ElementUtils {
     }
 
     public boolean isCartEmpty() {
-        boolean isEmpty = isElementDisplayed(emptyCartMessage);
+        boolean isEmpty = waitForCartToLoad() == 1;
         logger.info("Cart empty status: " + isEmpty);
         return isEmpty;
     }
 
+    /**
+     * Wait until the cart shows either its items or the empty-cart message
+     *
+     * @return 0 when items are shown, 1 when the empty message is shown
+     */
+    private int waitForCartToLoad() {
+        return waitForAnyElementToBeVisible(cartItems, emptyCartMessage);
+    }
+
     public void clearAllItemsFromCart() {
         if (isCartEmpty()) {
             logger.info("Cart is already empty");
@@ -111,6 +120,7 @@ public class CartPage extends ElementUtils {
             }
         }
 
+        waitForElementToDisappear(cartItems);
         logger.info("All items cleared from cart");
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.ecom.app.PageObjects;
 
+import java.time.Duration;
+
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 
 import com.ecom.app.Utilities.ElementUtils;
@@ -13,6 +16,7 @@ public class LoginPage extends ElementUtils {
     private final By signOutButton = By.xpath("//button[normalize-space(text())='Sign Out']");
     private final By errorMessage = By.cssSelector("[role='alert']");
     private final By loginForm = By.cssSelector(".login-wrapper");
+    private final Duration loginTimeout = Duration.ofSeconds(Long.parseLong(getProperty("explicitWait", "10")));
 
     public LoginPage(WebDriver driver) {
         super(driver);
@@ -21,7 +25,7 @@ public class LoginPage extends ElementUtils {
 
     public void navigateToLoginPage() {
         String baseUrl = getProperty("baseUrl") + "/client";
-        driver.get(baseUrl);
+        navigateTo(baseUrl);
         logger.info("Navigated to login page: " + baseUrl);
     }
 
@@ -34,17 +38,66 @@ public class LoginPage extends ElementUtils {
     }
 
     public void loginWithDefaultCredentials() {
-        String email = getProperty("email");
-        String password = getProperty("password");
         logger.info("Using default credentials from config");
+        loginWithCredentials(getProperty("email"), getProperty("password"));
+    }
+
+    public void loginWithCredentials(String email, String password) {
         loginToApplication(email, password);
-        if (isUserLoggedIn()) {
+        // The login form stays visible until the redirect, so wait for the dashboard explicitly
+        if (isElementVisibleWithin(signOutButton, loginTimeout)) {
 			logger.info("Login successful for user: " + email);
 		}
     }
 
+    /**
+     * Authenticate the browser with a token obtained from the login API, skipping the login form.
+     * The token is written to localStorage (and optionally a cookie) on the application origin
+     * before opening the dashboard. Falls back to the login form with the given credentials when
+     * the token cannot be stored or does not produce a logged-in session.
+     *
+     * @param authToken Token returned by /auth/login
+     * @param email     Account the token belongs to, used for the fallback
+     * @param password  Password of that account
+     */
+    public void loginWithApiToken(String authToken, String email, String password) {
+        logger.info("Injecting API session into browser");
+        if (!getCurrentUrl().startsWith(getProperty("baseUrl"))) {
+            navigateToLoginPage();
+        }
+
+        String storageKey = getProperty("fastAuth.storageKey", "token");
+        setLocalStorageItem(storageKey, authToken);
+        if (!authToken.equals(getLocalStorageItem(storageKey))) {
+            logger.warning("API token was not stored in localStorage under '" + storageKey
+                    + "' - falling back to UI login");
+            loginWithCredentials(email, password);
+            return;
+        }
+        String cookieName = getProperty("fastAuth.cookieName", "");
+        if (!cookieName.isEmpty()) {
+            addCookie(cookieName, authToken);
+        }
+
+        String dashboardUrl = getProperty("baseUrl") + "/client/dashboard/dash";
+        navigateTo(dashboardUrl);
+        if (isElementVisibleWithin(signOutButton, loginTimeout)) {
+            logger.info("Login via API token successful, navigated to: " + dashboardUrl);
+        } else {
+            logger.warning("API token injection did not produce a logged-in session on " + getCurrentUrl()
+                    + " - falling back to UI login");
+            loginWithCredentials(email, password);
+        }
+    }
+
     public boolean isUserLoggedIn() {
-        boolean loggedIn = isElementDisplayed(signOutButton);
+        boolean loggedIn;
+        try {
+            // Either the dashboard (Sign Out) or the login form settles; no timeout is paid for the other
+            loggedIn = waitForAnyElementToBeVisible(signOutButton, loginForm) == 0;
+        } catch (TimeoutException e) {
+            loggedIn = false;
+        }
         logger.info("User login status: " + loggedIn);
         return loggedIn;
     }
@@ -53,6 +106,7 @@ public class LoginPage extends ElementUtils {
         if (isUserLoggedIn()) {
             waitForElementToBeVisible(signOutButton);
             clickOnElement(signOutButton);
+            waitForElementToDisappear(signOutButton);
             logger.info("User signed out successfully");
         } else {
             logger.warning("Sign out attempted but user not logged in");
@@ -1,11 +1,10 @@
 package com.ecom.app.PageObjects;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 
 import com.ecom.app.Utilities.ElementUtils;
 
@@ -18,6 +17,7 @@ public class OrderConfirmationPage extends ElementUtils {
     private final By orderRows = By.cssSelector("tbody tr");
     private final By orderIds = By.xpath("//th[@scope='row']");
     private final By deleteButtons = By.xpath("//button[contains(text(),'Delete')]");
+    private final Duration renderTimeout = Duration.ofSeconds(Long.parseLong(getProperty("explicitWait", "10")));
 
     public OrderConfirmationPage(WebDriver driver) {
         super(driver);
@@ -35,7 +35,7 @@ public class OrderConfirmationPage extends ElementUtils {
     }
 
     public String getOrderId() {
-        if (isElementDisplayed(orderIdLabel)) {
+        if (isElementVisibleWithin(orderIdLabel, renderTimeout)) {
             String orderText = getText(orderIdLabel);
             String orderId = orderText.replaceAll("[^a-zA-Z0-9]", "");
             logger.info("Extracted order ID: " + orderId);
@@ -60,6 +60,7 @@ public class OrderConfirmationPage extends ElementUtils {
         scrollToTop();
         clickOnElement(ordersHistoryButton);
         waitForElementToBeVisible(orderHistoryHeader);
+        isElementVisibleWithin(orderIds, renderTimeout);
         logger.info("Order history page loaded");
     }
 
@@ -69,13 +70,9 @@ public class OrderConfirmationPage extends ElementUtils {
             return false;
         }
 
-        List<WebElement> orderElements = getElements(orderIds);
-        for (WebElement orderElement : orderElements) {
-            String orderText = orderElement.getText().trim();
-            if (orderText.equals(orderId)) {
-                logger.info("Order found in history: " + orderId);
-                return true;
-            }
+        if (getTexts(orderIds).contains(orderId)) {
+            logger.info("Order found in history: " + orderId);
+            return true;
         }
 
         logger.warning("Order not found in history: " + orderId);
@@ -88,10 +85,7 @@ public class OrderConfirmationPage extends ElementUtils {
             return List.of();
         }
 
-        List<WebElement> orderElements = getElements(orderIds);
-        List<String> orderIds = orderElements.stream()
-                .map(element -> element.getText().trim())
-                .collect(Collectors.toList());
+        List<String> orderIds = getTexts(this.orderIds);
 
         logger.info("Retrieved " + orderIds.size() + " order IDs: " + orderIds);
         return orderIds;
@@ -1,11 +1,10 @@
 package com.ecom.app.PageObjects;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 
 import com.ecom.app.Utilities.ElementUtils;
 
@@ -59,6 +58,7 @@ public class ProductPage extends ElementUtils {
     }
 
     public boolean isProductDisplayed(String productName) {
+        waitForProductsToLoad();
         By productLocator = By.xpath("//*[contains(text(),'" + productName + "')]");
         boolean displayed = isElementDisplayed(productLocator);
         logger.info("Product '" + productName + "' displayed: " + displayed);
@@ -84,24 +84,20 @@ public class ProductPage extends ElementUtils {
     }
 
     public List<String> getDisplayedProductNames() {
-        List<WebElement> titleElements = getElements(productTitles);
-        List<String> titles = titleElements.stream()
-                .map(WebElement::getText)
-                .collect(Collectors.toList());
+        waitForProductsToLoad();
+        List<String> titles = getTexts(productTitles);
         logger.info("Retrieved " + titles.size() + " product names: " + titles);
         return titles;
     }
 
     public void waitForProductsToLoad() {
-        if (isElementDisplayed(loadingSpinner)) {
-            waitForElementToDisappear(loadingSpinner);
-        }
+        waitForElementToDisappear(loadingSpinner);
         try {
-            waitForElementToBeVisible(productCards);
-        } catch (Exception e) {
-            if (!isElementDisplayed(noProductsMessage)) {
-                logger.warning("Neither products nor 'no products' message displayed");
+            if (waitForAnyElementToBeVisible(productCards, noProductsMessage) == 1) {
+                logger.info("'No Products Found' message displayed");
             }
+        } catch (TimeoutException e) {
+            logger.warning("Neither products nor 'no products' message displayed");
         }
     }
 
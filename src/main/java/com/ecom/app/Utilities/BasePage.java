@@ -1,27 +1,33 @@
 package com.ecom.app.Utilities;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 public class BasePage {
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    protected WaitEngine waitEngine;
+    protected final ElementCache elementCache = new ElementCache();
     protected Logger logger;
     protected JavascriptExecutor jsExecutor;
     private static final ConfigurationUtils configUtils = ConfigurationUtils.getInstance();
 
     protected BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(Integer.parseInt(configUtils.getProperty("explicitWait", "10"))));
+        this.waitEngine = new WaitEngine(driver);
         this.jsExecutor = (JavascriptExecutor) driver;
         this.logger = Logger.getLogger(this.getClass().getName());
         logger.info("BasePage initialized for: " + this.getClass().getSimpleName());
@@ -29,7 +35,8 @@ public class BasePage {
 
     protected WebElement waitForElementToBeVisible(By locator) {
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            return waitWithCache(locator, ExpectedConditions::visibilityOf,
+                    ExpectedConditions.visibilityOfElementLocated(locator), "visible");
         } catch (TimeoutException e) {
             logger.severe("Element not visible within timeout: " + locator);
             throw e;
@@ -38,7 +45,8 @@ public class BasePage {
 
     protected WebElement waitForElementToBeClickable(By locator) {
         try {
-            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+            return waitWithCache(locator, ExpectedConditions::elementToBeClickable,
+                    ExpectedConditions.elementToBeClickable(locator), "clickable");
         } catch (TimeoutException e) {
             logger.severe("Element not clickable within timeout: " + locator);
             throw e;
@@ -46,26 +54,120 @@ public class BasePage {
     }
 
     protected WebElement waitForElementToBePresent(By locator) {
+        WebElement cached = elementCache.get(locator);
+        if (cached != null) {
+            // Presence is implied by a cached reference; staleness surfaces on use (see retryOnStale)
+            return cached;
+        }
         try {
-            return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            WebElement element = waitEngine.until(ExpectedConditions.presenceOfElementLocated(locator), "present");
+            elementCache.put(locator, element);
+            return element;
         } catch (TimeoutException e) {
             logger.severe("Element not present within timeout: " + locator);
             throw e;
         }
     }
 
+    /**
+     * Resolve an element, preferring the cached reference. The cached element is checked against the
+     * condition directly (skipping findElement). While it does not match, e.g. because it went stale or
+     * stayed attached but hidden after the view was swapped, the locator is resolved again on each poll
+     * and a fresh match replaces the cached reference.
+     */
+    private WebElement waitWithCache(By locator, Function<WebElement, ExpectedCondition<WebElement>> cachedCondition,
+                                     ExpectedCondition<WebElement> locatorCondition, String description) {
+        WebElement[] cached = {elementCache.get(locator)};
+        WebElement element = waitEngine.until(d -> {
+            if (cached[0] != null) {
+                try {
+                    WebElement match = cachedCondition.apply(cached[0]).apply(d);
+                    if (match != null) {
+                        return match;
+                    }
+                } catch (StaleElementReferenceException e) {
+                    logger.info("Cached element went stale, re-resolving: " + locator);
+                    elementCache.invalidate(locator);
+                    cached[0] = null;
+                }
+            }
+            return locatorCondition.apply(d);
+        }, description);
+        elementCache.put(locator, element);
+        return element;
+    }
+
+    /**
+     * Run an action on a (possibly cached) element, re-resolving once if it has gone stale
+     *
+     * @param locator Locator the action resolves
+     * @param action  Action to run
+     * @return Action result
+     */
+    protected <T> T retryOnStale(By locator, Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (StaleElementReferenceException e) {
+            logger.info("Stale element, re-resolving: " + locator);
+            elementCache.invalidate(locator);
+            return action.get();
+        }
+    }
+
     protected void waitForElementToDisappear(By locator) {
+        elementCache.invalidate(locator);
         try {
-            wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+            waitEngine.until(ExpectedConditions.invisibilityOfElementLocated(locator), "invisible");
             logger.info("Element disappeared successfully: " + locator);
         } catch (TimeoutException e) {
             logger.warning("Element did not disappear within timeout: " + locator);
         }
     }
 
+    /**
+     * Wait until any of the locators is visible. Lets a page decide between mutually
+     * exclusive states (e.g. items vs. empty message) without paying a timeout on the absent one.
+     *
+     * @param locators Locators to check
+     * @return Index of the locator that became visible
+     */
+    protected int waitForAnyElementToBeVisible(By... locators) {
+        try {
+            return waitEngine.untilAnyVisible(locators);
+        } catch (TimeoutException e) {
+            logger.severe("None of the elements became visible within timeout: " + Arrays.toString(locators));
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for an element to become visible, returning false instead of throwing on timeout
+     *
+     * @param locator Element locator
+     * @param timeout Maximum time to wait
+     * @return true if the element became visible
+     */
+    protected boolean isElementVisibleWithin(By locator, Duration timeout) {
+        boolean visible = waitEngine.isMet(ExpectedConditions.visibilityOfElementLocated(locator), "visibleWithin", timeout);
+        logger.info("Element visible within " + timeout.toMillis() + " ms: " + locator + " -> " + visible);
+        return visible;
+    }
+
+    /**
+     * Check that an element is absent or hidden right now, without waiting
+     *
+     * @param locator Element locator
+     * @return true if no matching element is visible
+     */
+    protected boolean isElementAbsent(By locator) {
+        boolean absent = waitEngine.isAbsent(locator);
+        logger.info("Element absent check: " + locator + " -> " + absent);
+        return absent;
+    }
+
     protected void waitForTextToBePresentInElement(By locator, String text) {
         try {
-            wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+            waitEngine.until(ExpectedConditions.textToBePresentInElementLocated(locator, text), "textPresent");
             logger.info("Text found in element: " + text);
         } catch (TimeoutException e) {
             logger.severe("Text not found in element within timeout: " + locator + ", Expected text: " + text);
@@ -75,7 +177,7 @@ public class BasePage {
 
     protected void waitForChildWindow(int windowNumber) {
         try {
-            wait.until(ExpectedConditions.numberOfWindowsToBe(windowNumber));
+            waitEngine.until(ExpectedConditions.numberOfWindowsToBe(windowNumber), "windowCount");
             logger.info("Window count reached: " + windowNumber);
         } catch (TimeoutException e) {
             logger.severe("Timeout waiting for window count: " + windowNumber);
@@ -84,7 +186,7 @@ public class BasePage {
 
     protected void waitForAlert() {
         try {
-            wait.until(ExpectedConditions.alertIsPresent());
+            waitEngine.until(ExpectedConditions.alertIsPresent(), "alert");
             logger.info("Alert is present");
         } catch (TimeoutException e) {
             logger.severe("Alert not present within timeout");
@@ -101,6 +203,7 @@ public class BasePage {
                         windowNumber, windowHandles.length));
             }
             driver.switchTo().window(windowHandles[windowNumber - 1]);
+            elementCache.clear();
             logger.info("Switched to window number: " + windowNumber);
         } catch (Exception ex) {
             logger.severe("Failed to switch to window: " + windowNumber);
@@ -112,6 +215,7 @@ public class BasePage {
 
     protected void switchToWindow(String expectedTitle) {
         String parentWindow = driver.getWindowHandle();
+        elementCache.clear();
         boolean windowFound = false;
         for (String windowHandle : driver.getWindowHandles()) {
             if (!windowHandle.equals(parentWindow)) {
@@ -129,23 +233,26 @@ public class BasePage {
     }
 
     protected void switchToFrame(By locator) {
-        WebElement frameElement = waitForElementToBePresent(locator);
-        driver.switchTo().frame(frameElement);
+        retryOnStale(locator, () -> driver.switchTo().frame(waitForElementToBePresent(locator)));
+        elementCache.clear();
         logger.info("Switched to frame by locator: " + locator);
     }
 
     protected void switchToFrame(int frameIndex) {
         driver.switchTo().frame(frameIndex);
+        elementCache.clear();
         logger.info("Switched to frame by index: " + frameIndex);
     }
 
     protected void switchToFrame(String frameNameOrId) {
         driver.switchTo().frame(frameNameOrId);
+        elementCache.clear();
         logger.info("Switched to frame: " + frameNameOrId);
     }
 
     protected void switchToDefaultContent() {
         driver.switchTo().defaultContent();
+        elementCache.clear();
         logger.info("Switched to default content");
     }
 
@@ -189,16 +296,19 @@ public class BasePage {
 
     protected void refreshPage() {
         driver.navigate().refresh();
+        elementCache.clear();
         logger.info("Page refreshed");
     }
 
     protected void navigateBack() {
         driver.navigate().back();
+        elementCache.clear();
         logger.info("Navigated back");
     }
 
     protected void navigateForward() {
         driver.navigate().forward();
+        elementCache.clear();
         logger.info("Navigated forward");
     }
 
@@ -212,12 +322,39 @@ public class BasePage {
         logger.info("Scrolled to bottom");
     }
 
+    protected void setLocalStorageItem(String key, String value) {
+        jsExecutor.executeScript("window.localStorage.setItem(arguments[0], arguments[1]);", key, value);
+        logger.info("localStorage item set: " + key);
+    }
+
+    protected String getLocalStorageItem(String key) {
+        Object value = jsExecutor.executeScript("return window.localStorage.getItem(arguments[0]);", key);
+        return value == null ? null : value.toString();
+    }
+
+    protected void addCookie(String name, String value) {
+        driver.manage().addCookie(new Cookie(name, value, "/"));
+        logger.info("Cookie added: " + name);
+    }
+
+    /**
+     * Load a URL in the current window and drop cached elements from the previous document
+     *
+     * @param url URL to open
+     */
+    protected void navigateTo(String url) {
+        driver.get(url);
+        elementCache.clear();
+        logger.info("Navigated to: " + url);
+    }
+
     protected int getWindowCount() {
         return driver.getWindowHandles().size();
     }
 
     protected void closeCurrentWindow() {
         driver.close();
+        elementCache.clear();
         logger.info("Current window closed");
     }
 
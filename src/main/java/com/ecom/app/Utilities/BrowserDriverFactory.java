@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.logging.Logger;
 
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -12,6 +13,7 @@ import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariOptions;
 
 /**
  * Factory class for creating and configuring WebDriver instances
@@ -20,6 +22,10 @@ public class BrowserDriverFactory {
 
     private static final Logger logger = Logger.getLogger(BrowserDriverFactory.class.getName());
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<DriverSessionPool.PooledSession> pooledSessionThreadLocal = new ThreadLocal<>();
+    private static final ConfigurationUtils configUtils = ConfigurationUtils.getInstance();
+    private static volatile DriverSessionPool sessionPool;
+    private static volatile GridSessionScheduler gridScheduler;
 
     /**
      * Create WebDriver instance based on browser type
@@ -29,7 +35,100 @@ public class BrowserDriverFactory {
      * @return WebDriver instance
      */
     public static WebDriver createDriver(String browserName, boolean headless) {
-        WebDriver driver = null;
+        WebDriver driver = newDriver(browserName, headless);
+
+        if (driver != null) {
+            driverThreadLocal.set(driver);
+            logger.info("Driver created successfully: " + browserName);
+        }
+
+        return driver;
+    }
+
+    /**
+     * Borrow a warm WebDriver from the session pool, or create a dedicated one when pooling is disabled
+     *
+     * @param browserName Browser name (chrome, firefox, edge, safari)
+     * @param headless    Whether to run in headless mode
+     * @return WebDriver instance bound to the current thread
+     */
+    public static WebDriver acquireDriver(String browserName, boolean headless) {
+        if (!isPoolEnabled()) {
+            return createDriver(browserName, headless);
+        }
+
+        String poolKey = browserName.toLowerCase() + "|" + (headless ? "headless" : "headed") + "|"
+                + Integer.toHexString(createOptions(browserName, headless).asMap().hashCode());
+        DriverSessionPool.PooledSession session = getSessionPool().borrow(poolKey, () -> newDriver(browserName, headless));
+
+        pooledSessionThreadLocal.set(session);
+        driverThreadLocal.set(session.getDriver());
+        logger.info("Driver acquired from pool: " + poolKey);
+        return session.getDriver();
+    }
+
+    /**
+     * Hand the current thread's WebDriver back to the pool, or quit it when it was not pooled
+     */
+    public static void releaseDriver() {
+        DriverSessionPool.PooledSession session = pooledSessionThreadLocal.get();
+        if (session == null) {
+            quitDriver();
+            return;
+        }
+
+        try {
+            getSessionPool().giveBack(session);
+        } finally {
+            pooledSessionThreadLocal.remove();
+            driverThreadLocal.remove();
+        }
+    }
+
+    /**
+     * Quit every pooled WebDriver session. Call once at the end of the suite.
+     */
+    public static synchronized void shutdownPool() {
+        if (sessionPool != null) {
+            sessionPool.shutdown();
+            sessionPool = null;
+        }
+    }
+
+    private static boolean isPoolEnabled() {
+        return Boolean.parseBoolean(configUtils.getProperty("driver.pool.enabled", "true"));
+    }
+
+    private static DriverSessionPool getSessionPool() {
+        if (sessionPool == null) {
+            synchronized (BrowserDriverFactory.class) {
+                if (sessionPool == null) {
+                    sessionPool = new DriverSessionPool(
+                            Integer.parseInt(configUtils.getProperty("driver.pool.maxSize", "4")),
+                            Integer.parseInt(configUtils.getProperty("driver.pool.maxUsesPerSession", "20")),
+                            Long.parseLong(configUtils.getProperty("driver.pool.borrowTimeout", "300")) * 1000L,
+                            configUtils.getProperty("driver.pool.resetUrl", "about:blank"));
+                }
+            }
+        }
+        return sessionPool;
+    }
+
+    /**
+     * Launch and configure a new browser process
+     *
+     * @param browserName Browser name (chrome, firefox, edge, safari)
+     * @param headless    Whether to run in headless mode
+     * @return Configured WebDriver instance
+     */
+    private static WebDriver newDriver(String browserName, boolean headless) {
+        WebDriver driver;
+
+        if (isRemoteExecution()) {
+            driver = getGridScheduler().createSession(createOptions(browserName, headless));
+            configureDriver(driver);
+            return driver;
+        }
 
         switch (browserName.toLowerCase()) {
             case "chrome":
@@ -51,13 +150,66 @@ public class BrowserDriverFactory {
 
         if (driver != null) {
             configureDriver(driver);
-            driverThreadLocal.set(driver);
-            logger.info("Driver created successfully: " + browserName);
         }
-
         return driver;
     }
 
+    private static boolean isRemoteExecution() {
+        return "remote".equalsIgnoreCase(configUtils.getProperty("execution.mode", "local"));
+    }
+
+    private static GridSessionScheduler getGridScheduler() {
+        if (gridScheduler == null) {
+            synchronized (BrowserDriverFactory.class) {
+                if (gridScheduler == null) {
+                    gridScheduler = new GridSessionScheduler(
+                            configUtils.getProperty("grid.url", "http://localhost:4444"),
+                            Long.parseLong(configUtils.getProperty("grid.queueTimeout", "600")) * 1000L,
+                            Long.parseLong(configUtils.getProperty("grid.pollInterval", "2000")),
+                            Integer.parseInt(configUtils.getProperty("grid.maxSessions", "4")));
+                }
+            }
+        }
+        return gridScheduler;
+    }
+
+    /**
+     * Quit a driver and release its Grid slot if it was remote
+     *
+     * @param driver WebDriver instance to quit
+     */
+    static void disposeDriver(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.warning("Error while quitting driver: " + e.getMessage());
+        } finally {
+            if (gridScheduler != null) {
+                gridScheduler.sessionClosed(driver);
+            }
+        }
+    }
+
+    /**
+     * Build the browser options used for a browser type
+     *
+     * @param browserName Browser name (chrome, firefox, edge, safari)
+     * @param headless    Whether to run in headless mode
+     * @return Browser options
+     */
+    private static MutableCapabilities createOptions(String browserName, boolean headless) {
+        switch (browserName.toLowerCase()) {
+            case "firefox":
+                return createFirefoxOptions(headless);
+            case "edge":
+                return createEdgeOptions(headless);
+            case "safari":
+                return new SafariOptions();
+            default:
+                return createChromeOptions(headless);
+        }
+    }
+
     /**
      * Create Chrome driver with options
      *
@@ -65,6 +217,16 @@ public class BrowserDriverFactory {
      * @return ChromeDriver instance
      */
     private static WebDriver createChromeDriver(boolean headless) {
+        return new ChromeDriver(createChromeOptions(headless));
+    }
+
+    /**
+     * Build Chrome options
+     *
+     * @param headless Whether to run in headless mode
+     * @return ChromeOptions instance
+     */
+    private static ChromeOptions createChromeOptions(boolean headless) {
         ChromeOptions options = new ChromeOptions();
 
         // Performance and security options
@@ -89,7 +251,7 @@ public class BrowserDriverFactory {
             logger.info("Chrome driver configured for headless mode");
         }
 
-        return new ChromeDriver(options);
+        return options;
     }
 
     /**
@@ -99,6 +261,16 @@ public class BrowserDriverFactory {
      * @return FirefoxDriver instance
      */
     private static WebDriver createFirefoxDriver(boolean headless) {
+        return new FirefoxDriver(createFirefoxOptions(headless));
+    }
+
+    /**
+     * Build Firefox options
+     *
+     * @param headless Whether to run in headless mode
+     * @return FirefoxOptions instance
+     */
+    private static FirefoxOptions createFirefoxOptions(boolean headless) {
         FirefoxOptions options = new FirefoxOptions();
 
         if (headless) {
@@ -106,7 +278,7 @@ public class BrowserDriverFactory {
             logger.info("Firefox driver configured for headless mode");
         }
 
-        return new FirefoxDriver(options);
+        return options;
     }
 
     /**
@@ -116,6 +288,16 @@ public class BrowserDriverFactory {
      * @return EdgeDriver instance
      */
     private static WebDriver createEdgeDriver(boolean headless) {
+        return new EdgeDriver(createEdgeOptions(headless));
+    }
+
+    /**
+     * Build Edge options
+     *
+     * @param headless Whether to run in headless mode
+     * @return EdgeOptions instance
+     */
+    private static EdgeOptions createEdgeOptions(boolean headless) {
         EdgeOptions options = new EdgeOptions();
 
         if (headless) {
@@ -123,7 +305,7 @@ public class BrowserDriverFactory {
             logger.info("Edge driver configured for headless mode");
         }
 
-        return new EdgeDriver(options);
+        return options;
     }
 
     /**
@@ -143,7 +325,8 @@ public class BrowserDriverFactory {
      */
     private static void configureDriver(WebDriver driver) {
         driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+        // Explicit waits only (see WaitEngine); an implicit wait would stall every negative check
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
         driver.manage().deleteAllCookies();
     }
 
@@ -160,13 +343,20 @@ public class BrowserDriverFactory {
      * Close and quit the current thread's WebDriver instance
      */
     public static void quitDriver() {
+        DriverSessionPool.PooledSession session = pooledSessionThreadLocal.get();
+        if (session != null) {
+            getSessionPool().invalidate(session);
+            pooledSessionThreadLocal.remove();
+            driverThreadLocal.remove();
+            logger.info("Pooled driver quit and evicted");
+            return;
+        }
+
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
             try {
-                driver.quit();
+                disposeDriver(driver);
                 logger.info("Driver quit successfully");
-            } catch (Exception e) {
-                logger.warning("Error while quitting driver: " + e.getMessage());
             } finally {
                 driverThreadLocal.remove();
             }
@@ -24,12 +24,13 @@ public class ConfigurationUtils {
         return instance;
     }
 
+    // JVM system properties (-Dkey=value) take precedence so CI can tune values without editing the file
     public String getProperty(String key) {
-        return prop.getProperty(key);
+        return System.getProperty(key, prop.getProperty(key));
     }
 
     public String getProperty(String key, String defaultValue) {
-        return prop.getProperty(key, defaultValue);
+        return System.getProperty(key, prop.getProperty(key, defaultValue));
     }
 
     private void loadProperties() {
@@ -1,15 +1,18 @@
 package com.ecom.app.Utilities;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import org.testng.annotations.DataProvider;
@@ -20,37 +23,167 @@ import com.opencsv.exceptions.CsvValidationException;
 public class CsvDataProviders {
     static Logger logger = Logger.getLogger(CsvDataProviders.class.getName());
 
+    // Files up to this size are parsed once and kept; larger ones are streamed row by row on every run
+    private static final long CACHE_MAX_BYTES = Long.parseLong(
+            ConfigurationUtils.getInstance().getProperty("csv.cacheMaxBytes", "1048576").trim());
+    private static final Map<Path, CachedCsv> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Rows of src/test/resources/TestData/{TestClass}/{testMethod}.csv, one Map of column to value per row.
+     * Small files are served from memory while unchanged; large files are read lazily from an open reader,
+     * which is closed after the last row.
+     */
     @DataProvider(name = "csvFileReader")
     public static Iterator<Object[]> csvReader(Method method) {
         logger.info("Reading data from CSV file for method: " + method.getName());
-        List<Object[]> list = new ArrayList<>();
-        String pathName = "src" + File.separator + "test" + File.separator + "resources" + File.separator
-                + "TestData" + File.separator + method.getDeclaringClass().getSimpleName() + File.separator
-                + method.getName() + ".csv";
-        File file = new File(pathName);
+        return readRows(csvPath(method));
+    }
+
+    /**
+     * Same rows as csvFileReader, run concurrently on TestNG's data-provider threads
+     * (dataprovider.threadCount). Only for tests whose rows are independent, such as one API call per row;
+     * TestNG collects the rows up front before fanning them out.
+     */
+    @DataProvider(name = "csvFileReaderParallel", parallel = true)
+    public static Iterator<Object[]> csvReaderParallel(Method method) {
+        return csvReader(method);
+    }
+
+    static Path csvPath(Method method) {
+        return Paths.get("src", "test", "resources", "TestData", method.getDeclaringClass().getSimpleName(),
+                method.getName() + ".csv");
+    }
+
+    static Iterator<Object[]> readRows(Path path) {
+        if (!Files.isRegularFile(path)) {
+            throw new RuntimeException("File " + path + " was not found.");
+        }
         try {
-            CSVReader reader = new CSVReader(new FileReader(file));
-            String[] keys = reader.readNext();
-            if (keys != null) {
-                String[] dataParts;
-                while ((dataParts = reader.readNext()) != null) {
-                    Map<String, String> testData = new HashMap<>();
-                    for (int i = 0; i < keys.length; i++) {
-                        testData.put(keys[i], dataParts[i]);
-                    }
-                    list.add(new Object[]{testData});
-                }
+            long size = Files.size(path);
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            if (size > CACHE_MAX_BYTES) {
+                logger.info("Streaming CSV file: " + path + " (" + size + " bytes)");
+                return new StreamingRowIterator(path);
             }
-            reader.close();
-            logger.info("CSV file read successfully: " + pathName);
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException("File " + pathName + " was not found.\n" + e.getStackTrace().toString());
+            CachedCsv cached = cache.get(path);
+            if (cached == null || cached.modified != modified || cached.size != size) {
+                cached = parse(path, size, modified);
+                cache.put(path, cached);
+                logger.info("CSV file read successfully: " + path);
+            }
+            return cached.iterator();
         } catch (IOException e) {
-            throw new RuntimeException("Could not read " + pathName + " file.\n" + e.getStackTrace().toString());
+            throw new RuntimeException("Could not read " + path + " file.", e);
+        }
+    }
+
+    private static CachedCsv parse(Path path, long size, long modified) throws IOException {
+        try (CSVReader reader = open(path)) {
+            String[] columns = reader.readNext();
+            CsvRow.Header header = new CsvRow.Header(columns == null ? new String[0] : columns);
+            List<String[]> rows = new ArrayList<>();
+            if (columns != null) {
+                String[] values;
+                while ((values = reader.readNext()) != null) {
+                    rows.add(values);
+                }
+            }
+            return new CachedCsv(size, modified, header, rows);
         } catch (CsvValidationException e) {
-            throw new RuntimeException(
-                    "Could not validate CSV file " + pathName + " file.\n" + e.getStackTrace().toString());
+            throw new RuntimeException("Could not validate CSV file " + path + " file.", e);
+        }
+    }
+
+    private static CSVReader open(Path path) throws IOException {
+        return new CSVReader(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parsed rows of a small CSV file, valid while its size and modification time are unchanged
+     */
+    private static final class CachedCsv {
+        private final long size;
+        private final long modified;
+        private final CsvRow.Header header;
+        private final List<String[]> rows;
+
+        CachedCsv(long size, long modified, CsvRow.Header header, List<String[]> rows) {
+            this.size = size;
+            this.modified = modified;
+            this.header = header;
+            this.rows = rows;
+        }
+
+        Iterator<Object[]> iterator() {
+            Iterator<String[]> values = rows.iterator();
+            return new Iterator<Object[]>() {
+                @Override
+                public boolean hasNext() {
+                    return values.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    return new Object[]{new CsvRow(header, values.next())};
+                }
+            };
+        }
+    }
+
+    /**
+     * Reads one row ahead from an open reader, so memory use does not depend on the file's length
+     */
+    private static final class StreamingRowIterator implements Iterator<Object[]> {
+        private final Path path;
+        private final CSVReader reader;
+        private final CsvRow.Header header;
+        private String[] nextValues;
+
+        StreamingRowIterator(Path path) throws IOException {
+            this.path = path;
+            this.reader = open(path);
+            String[] columns = readLine();
+            this.header = new CsvRow.Header(columns == null ? new String[0] : columns);
+            this.nextValues = columns == null ? null : readLine();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextValues != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (nextValues == null) {
+                throw new NoSuchElementException();
+            }
+            Object[] row = new Object[]{new CsvRow(header, nextValues)};
+            nextValues = readLine();
+            return row;
+        }
+
+        private String[] readLine() {
+            try {
+                String[] values = reader.readNext();
+                if (values == null) {
+                    close();
+                }
+                return values;
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Could not read " + path + " file.", e);
+            } catch (CsvValidationException e) {
+                close();
+                throw new RuntimeException("Could not validate CSV file " + path + " file.", e);
+            }
+        }
+
+        private void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close CSV file " + path + ": " + e.getMessage());
+            }
         }
-        return list.iterator();
     }
-}
\ No newline at end of file
+}
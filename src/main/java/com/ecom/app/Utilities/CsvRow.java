@@ -0,0 +1,91 @@
+package com.ecom.app.Utilities;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * One CSV data row exposed as a read-only Map of column name to value.
+ * The header and its column index are shared by every row of a file, so a row costs one String array
+ * instead of a HashMap with an entry object per column.
+ */
+public final class CsvRow extends AbstractMap<String, String> {
+
+    private final Header header;
+    private final String[] values;
+
+    CsvRow(Header header, String[] values) {
+        this.header = header;
+        this.values = values;
+    }
+
+    @Override
+    public String get(Object key) {
+        Integer index = header.indexOf.get(key);
+        return index == null || index >= values.length ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return header.indexOf.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return header.columns.length;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<Entry<String, String>>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < header.columns.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = next++;
+                        return new SimpleImmutableEntry<>(header.columns[index],
+                                index < values.length ? values[index] : null);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return header.columns.length;
+            }
+        };
+    }
+
+    /**
+     * Column names of a CSV file and their positions
+     */
+    static final class Header {
+        private final String[] columns;
+        private final Map<String, Integer> indexOf;
+
+        Header(String[] columns) {
+            this.columns = columns.clone();
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < columns.length; i++) {
+                index.putIfAbsent(columns[i], i);
+            }
+            this.indexOf = Collections.unmodifiableMap(index);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.ecom.app.Utilities;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Bounded pool of warm WebDriver sessions keyed by browser, headless mode and options.
+ * Sessions are reset on return and evicted when they die or reach their usage cap.
+ */
+public class DriverSessionPool {
+
+    private static final Logger logger = Logger.getLogger(DriverSessionPool.class.getName());
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    private final Map<String, LinkedBlockingDeque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+    private final Set<PooledSession> borrowedSessions = ConcurrentHashMap.newKeySet();
+    private final Semaphore capacity;
+    private final int maxSize;
+    private final int maxUsesPerSession;
+    private final long borrowTimeoutMs;
+    private final String resetUrl;
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger reused = new AtomicInteger();
+    private final AtomicInteger evicted = new AtomicInteger();
+
+    /**
+     * Create a pool
+     *
+     * @param maxSize           Maximum number of live sessions across all keys
+     * @param maxUsesPerSession Number of tests a session may serve before it is recycled
+     * @param borrowTimeoutMs   How long a borrow waits for free capacity
+     * @param resetUrl          URL loaded into a session when it is returned
+     */
+    public DriverSessionPool(int maxSize, int maxUsesPerSession, long borrowTimeoutMs, String resetUrl) {
+        this.maxSize = maxSize;
+        this.maxUsesPerSession = maxUsesPerSession;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.resetUrl = resetUrl;
+        this.capacity = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Borrow a healthy session for the key, creating one if the pool has capacity
+     *
+     * @param key     Pool key (browser + headless + options)
+     * @param factory Creates a new configured driver when no idle session is available
+     * @return Borrowed session
+     */
+    public PooledSession borrow(String key, Supplier<WebDriver> factory) {
+        long deadline = System.currentTimeMillis() + borrowTimeoutMs;
+
+        while (true) {
+            PooledSession session = pollHealthy(key);
+            if (session != null) {
+                reused.incrementAndGet();
+                borrowedSessions.add(session);
+                logger.info("Reusing pooled driver session (" + key + "), uses so far: " + session.getUseCount());
+                return session;
+            }
+
+            if (capacity.tryAcquire() || evictIdleFromOtherKeys(key)) {
+                try {
+                    session = new PooledSession(key, factory.get());
+                } catch (RuntimeException e) {
+                    capacity.release();
+                    throw e;
+                }
+                created.incrementAndGet();
+                borrowedSessions.add(session);
+                logger.info("Created new pooled driver session (" + key + "), live sessions: " + liveCount());
+                return session;
+            }
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new RuntimeException(String.format(
+                        "Timed out after %d ms waiting for a driver session. Pool size: %d", borrowTimeoutMs, maxSize));
+            }
+            try {
+                if (capacity.tryAcquire(Math.min(remaining, 500L), TimeUnit.MILLISECONDS)) {
+                    capacity.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a driver session", e);
+            }
+        }
+    }
+
+    /**
+     * Return a session to the pool. The session is reset or evicted if reset fails or it is worn out.
+     *
+     * @param session Session to return
+     */
+    public void giveBack(PooledSession session) {
+        if (session == null || !borrowedSessions.remove(session)) {
+            return;
+        }
+        session.incrementUseCount();
+
+        if (session.getUseCount() >= maxUsesPerSession) {
+            logger.info("Driver session reached max uses (" + maxUsesPerSession + "), recycling");
+            evict(session);
+            return;
+        }
+
+        if (!resetSession(session)) {
+            evict(session);
+            return;
+        }
+
+        idleSessions.computeIfAbsent(session.getKey(), k -> new LinkedBlockingDeque<>()).offerFirst(session);
+        logger.info("Driver session returned to pool (" + session.getKey() + ")");
+    }
+
+    /**
+     * Discard a session without returning it to the pool
+     *
+     * @param session Session to evict
+     */
+    public void invalidate(PooledSession session) {
+        if (session != null && borrowedSessions.remove(session)) {
+            evict(session);
+        }
+    }
+
+    /**
+     * Quit every idle and borrowed session
+     */
+    public void shutdown() {
+        idleSessions.values().forEach(deque -> {
+            PooledSession session;
+            while ((session = deque.pollFirst()) != null) {
+                evict(session);
+            }
+        });
+        borrowedSessions.forEach(this::evict);
+        borrowedSessions.clear();
+        logger.info(String.format("Driver pool shut down. Created: %d, Reused: %d, Evicted: %d",
+                created.get(), reused.get(), evicted.get()));
+    }
+
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    public int getReusedCount() {
+        return reused.get();
+    }
+
+    public int getEvictedCount() {
+        return evicted.get();
+    }
+
+    private int liveCount() {
+        return maxSize - capacity.availablePermits();
+    }
+
+    private PooledSession pollHealthy(String key) {
+        LinkedBlockingDeque<PooledSession> deque = idleSessions.get(key);
+        if (deque == null) {
+            return null;
+        }
+        PooledSession session;
+        while ((session = deque.pollFirst()) != null) {
+            if (isAlive(session)) {
+                return session;
+            }
+            logger.warning("Evicting dead driver session (" + key + ")");
+            evict(session);
+        }
+        return null;
+    }
+
+    private boolean evictIdleFromOtherKeys(String key) {
+        for (Map.Entry<String, LinkedBlockingDeque<PooledSession>> entry : idleSessions.entrySet()) {
+            if (entry.getKey().equals(key)) {
+                continue;
+            }
+            PooledSession session = entry.getValue().pollLast();
+            if (session != null) {
+                logger.info("Evicting idle session (" + entry.getKey() + ") to make room for " + key);
+                quit(session);
+                evicted.incrementAndGet();
+                // The evicted session's permit is handed straight to the caller
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAlive(PooledSession session) {
+        try {
+            session.getDriver().getWindowHandles();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private boolean resetSession(PooledSession session) {
+        WebDriver driver = session.getDriver();
+        try {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException ignored) {
+                // No alert left open by the test
+            }
+
+            Set<String> handles = driver.getWindowHandles();
+            if (!handles.contains(session.getPrimaryHandle())) {
+                logger.warning("Primary window of pooled session was closed, evicting");
+                return false;
+            }
+            for (String handle : handles) {
+                if (!handle.equals(session.getPrimaryHandle())) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(session.getPrimaryHandle());
+
+            // Storage and cookies are scoped to the current origin, so clear them before leaving it
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            driver.manage().deleteAllCookies();
+            driver.get(resetUrl);
+            return true;
+        } catch (WebDriverException e) {
+            logger.warning("Failed to reset pooled driver session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void evict(PooledSession session) {
+        quit(session);
+        evicted.incrementAndGet();
+        capacity.release();
+    }
+
+    private void quit(PooledSession session) {
+        BrowserDriverFactory.disposeDriver(session.getDriver());
+    }
+
+    /**
+     * A live driver together with its pool bookkeeping
+     */
+    public static class PooledSession {
+        private final String key;
+        private final WebDriver driver;
+        private final String primaryHandle;
+        private int useCount;
+
+        PooledSession(String key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+            this.primaryHandle = driver.getWindowHandle();
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        String getPrimaryHandle() {
+            return primaryHandle;
+        }
+
+        int getUseCount() {
+            return useCount;
+        }
+
+        void incrementUseCount() {
+            useCount++;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecom.app.Utilities;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Per-page cache of resolved elements keyed by locator. Entries are dropped when the element
+ * goes stale or the page navigates, so callers re-resolve only when the DOM actually changed.
+ */
+public class ElementCache {
+
+    private static final AtomicLong globalHits = new AtomicLong();
+    private static final AtomicLong globalMisses = new AtomicLong();
+    private static final AtomicLong globalInvalidations = new AtomicLong();
+
+    private final Map<By, WebElement> elements = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private long hits;
+    private long misses;
+
+    public ElementCache() {
+        this(Boolean.parseBoolean(ConfigurationUtils.getPropertyStatic("elementCache.enabled", "true")));
+    }
+
+    public ElementCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the cached element for a locator and count the lookup as a hit or miss
+     *
+     * @param locator Element locator
+     * @return Cached element, or null when it must be resolved
+     */
+    public WebElement get(By locator) {
+        WebElement element = enabled ? elements.get(locator) : null;
+        if (element != null) {
+            hits++;
+            globalHits.incrementAndGet();
+        } else {
+            misses++;
+            globalMisses.incrementAndGet();
+        }
+        return element;
+    }
+
+    public void put(By locator, WebElement element) {
+        if (enabled && element != null) {
+            elements.put(locator, element);
+        }
+    }
+
+    /**
+     * Drop one entry, e.g. after a StaleElementReferenceException
+     *
+     * @param locator Element locator
+     */
+    public void invalidate(By locator) {
+        if (elements.remove(locator) != null) {
+            globalInvalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drop every entry, e.g. after navigation
+     */
+    public void clear() {
+        globalInvalidations.addAndGet(elements.size());
+        elements.clear();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public static long getGlobalHits() {
+        return globalHits.get();
+    }
+
+    public static long getGlobalMisses() {
+        return globalMisses.get();
+    }
+
+    /**
+     * Get a printable summary of cache effectiveness across all pages
+     *
+     * @return Hits, misses, hit ratio and invalidations
+     */
+    public static String getGlobalStatisticsSummary() {
+        long hitCount = globalHits.get();
+        long total = hitCount + globalMisses.get();
+        return String.format("Lookups: %d%nHits: %d%nMisses: %d%nHit ratio: %.1f%%%nInvalidations: %d%n",
+                total, hitCount, globalMisses.get(), total == 0 ? 0.0 : hitCount * 100.0 / total, globalInvalidations.get());
+    }
+}
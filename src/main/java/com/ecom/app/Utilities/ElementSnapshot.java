@@ -0,0 +1,77 @@
+package com.ecom.app.Utilities;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.Rectangle;
+
+/**
+ * Immutable, point-in-time view of a DOM element read in bulk by ElementUtils.getElementSnapshots
+ */
+public class ElementSnapshot {
+
+    private final String text;
+    private final boolean visible;
+    private final Map<String, String> attributes;
+    private final Rectangle bounds;
+
+    public ElementSnapshot(String text, boolean visible, Map<String, String> attributes, Rectangle bounds) {
+        this.text = text;
+        this.visible = visible;
+        this.attributes = Collections.unmodifiableMap(new HashMap<>(attributes));
+        this.bounds = bounds;
+    }
+
+    /**
+     * Build a snapshot from the map returned by the bulk-read script
+     *
+     * @param raw Map with text, visible, attributes, x, y, width and height entries
+     * @return ElementSnapshot instance
+     */
+    @SuppressWarnings("unchecked")
+    static ElementSnapshot fromScriptResult(Map<String, Object> raw) {
+        Map<String, String> attributes = new HashMap<>();
+        Object rawAttributes = raw.get("attributes");
+        if (rawAttributes instanceof Map) {
+            ((Map<String, Object>) rawAttributes).forEach((name, value) ->
+                    attributes.put(name, value == null ? null : value.toString()));
+        }
+
+        Rectangle bounds = new Rectangle(
+                toInt(raw.get("x")), toInt(raw.get("y")), toInt(raw.get("height")), toInt(raw.get("width")));
+        Object text = raw.get("text");
+        return new ElementSnapshot(text == null ? "" : text.toString(), Boolean.TRUE.equals(raw.get("visible")),
+                attributes, bounds);
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number ? (int) Math.round(((Number) value).doubleValue()) : 0;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementSnapshot{text='" + text + "', visible=" + visible + ", attributes=" + attributes
+                + ", bounds=" + bounds.getX() + "," + bounds.getY() + " " + bounds.getWidth() + "x" + bounds.getHeight() + "}";
+    }
+}
@@ -1,10 +1,13 @@
 package com.ecom.app.Utilities;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
-import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
@@ -12,6 +15,25 @@ import org.openqa.selenium.support.ui.Select;
 
 public class ElementUtils extends BasePage {
 
+    // Resolves the locator (or takes pre-resolved elements) and reads every element in one round trip
+    private static final String BULK_READ_SCRIPT =
+            "var using = arguments[0], value = arguments[1], attrs = arguments[2], els = arguments[3];"
+            + "if (!els) {"
+            + "  if (using === 'xpath') {"
+            + "    var r = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "    els = []; for (var k = 0; k < r.snapshotLength; k++) { els.push(r.snapshotItem(k)); }"
+            + "  } else { els = document.querySelectorAll(value); }"
+            + "}"
+            + "var out = [];"
+            + "for (var i = 0; i < els.length; i++) {"
+            + "  var e = els[i], rect = e.getBoundingClientRect(), style = window.getComputedStyle(e), a = {};"
+            + "  for (var j = 0; j < attrs.length; j++) { a[attrs[j]] = e.getAttribute(attrs[j]); }"
+            + "  out.push({text: (e.innerText || e.textContent || '').trim(),"
+            + "    visible: rect.width > 0 && rect.height > 0 && style.visibility !== 'hidden' && style.display !== 'none',"
+            + "    attributes: a, x: rect.left, y: rect.top, width: rect.width, height: rect.height});"
+            + "}"
+            + "return out;";
+
     protected Actions actions;
 
     protected ElementUtils(WebDriver driver) {
@@ -33,8 +55,7 @@ public class ElementUtils extends BasePage {
 
     protected void clickOnElementJS(By locator) {
         try {
-            WebElement element = waitForElementToBePresent(locator);
-            jsExecutor.executeScript("arguments[0].click()", element);
+            retryOnStale(locator, () -> jsExecutor.executeScript("arguments[0].click()", waitForElementToBePresent(locator)));
             logger.info("JS clicked element: " + locator);
         } catch (Exception e) {
             logger.severe("JS click failed: " + locator + " - " + e.getMessage());
@@ -187,21 +208,18 @@ public class ElementUtils extends BasePage {
         return attributeValue;
     }
 
+    /**
+     * Check visibility right now, without waiting. Callers that expect the element to appear
+     * should wait for the page state first (e.g. waitForAnyElementToBeVisible).
+     */
     protected boolean isElementDisplayed(By locator) {
-        try {
-            WebElement element = driver.findElement(locator);
-            boolean isDisplayed = element.isDisplayed();
-            logger.info("Element displayed check: " + locator + " -> " + isDisplayed);
-            return isDisplayed;
-        } catch (NoSuchElementException e) {
-            logger.info("Element not found: " + locator + " -> false");
-            return false;
-        }
+        boolean isDisplayed = waitEngine.isVisibleNow(locator);
+        logger.info("Element displayed check: " + locator + " -> " + isDisplayed);
+        return isDisplayed;
     }
 
     protected boolean isElementEnabled(By locator) {
-        WebElement element = waitForElementToBePresent(locator);
-        boolean isEnabled = element.isEnabled();
+        boolean isEnabled = retryOnStale(locator, () -> waitForElementToBePresent(locator).isEnabled());
         logger.info("Element enabled check: " + locator + " -> " + isEnabled);
         return isEnabled;
     }
@@ -213,8 +231,7 @@ public class ElementUtils extends BasePage {
     }
 
     protected void scrollIntoView(By locator) {
-        WebElement element = waitForElementToBePresent(locator);
-        jsExecutor.executeScript("arguments[0].scrollIntoView(true);", element);
+        retryOnStale(locator, () -> jsExecutor.executeScript("arguments[0].scrollIntoView(true);", waitForElementToBePresent(locator)));
         logger.info("Scrolled element into view: " + locator);
     }
 
@@ -230,4 +247,51 @@ public class ElementUtils extends BasePage {
         logger.info("Retrieved " + elements.size() + " elements for: " + locator);
         return elements;
     }
-}
\ No newline at end of file
+
+    /**
+     * Read text, visibility, bounding box and the requested attributes of every element matching
+     * the locator in a single executeScript call, instead of one WebDriver round trip per property
+     *
+     * @param locator        Element locator
+     * @param attributeNames Attributes to capture for each element
+     * @return Snapshots in document order
+     */
+    @SuppressWarnings("unchecked")
+    protected List<ElementSnapshot> getElementSnapshots(By locator, String... attributeNames) {
+        String using = null;
+        String value = null;
+        List<WebElement> resolved = null;
+
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if ("css selector".equals(parameters.using()) || "xpath".equals(parameters.using())) {
+                using = parameters.using();
+                value = String.valueOf(parameters.value());
+            }
+        }
+        if (using == null) {
+            // Locator strategies the script can't evaluate (e.g. link text) are resolved by the driver first
+            resolved = driver.findElements(locator);
+        }
+
+        Object result = jsExecutor.executeScript(BULK_READ_SCRIPT, using, value, Arrays.asList(attributeNames), resolved);
+        List<ElementSnapshot> snapshots = result == null ? Collections.emptyList()
+                : ((List<Map<String, Object>>) result).stream()
+                        .map(ElementSnapshot::fromScriptResult)
+                        .collect(Collectors.toList());
+        logger.info("Bulk read " + snapshots.size() + " elements for: " + locator);
+        return snapshots;
+    }
+
+    /**
+     * Get the trimmed text of every element matching the locator in one round trip
+     *
+     * @param locator Element locator
+     * @return Texts in document order
+     */
+    protected List<String> getTexts(By locator) {
+        return getElementSnapshots(locator).stream()
+                .map(ElementSnapshot::getText)
+                .collect(Collectors.toList());
+    }
+}
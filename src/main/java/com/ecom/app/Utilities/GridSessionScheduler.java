@@ -0,0 +1,192 @@
+package com.ecom.app.Utilities;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.LocalFileDetector;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Creates RemoteWebDriver sessions on a Selenium Grid (or standalone server / container) without
+ * overrunning it. Free slots are read from the Grid /status endpoint; requests beyond capacity
+ * wait in a FIFO queue instead of failing with "no capacity".
+ */
+public class GridSessionScheduler {
+
+    private static final Logger logger = Logger.getLogger(GridSessionScheduler.class.getName());
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final URL gridUrl;
+    private final URI statusUri;
+    private final long queueTimeoutMs;
+    private final long pollIntervalMs;
+    private final int fallbackMaxSessions;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    // Fair lock: waiting requests are served in arrival order
+    private final ReentrantLock queue = new ReentrantLock(true);
+    private final Set<WebDriver> activeSessions = ConcurrentHashMap.newKeySet();
+    private int pendingCreations;
+
+    /**
+     * Create a scheduler for a Grid endpoint
+     *
+     * @param gridUrl             Grid URL, e.g. http://localhost:4444
+     * @param queueTimeoutMs      Maximum time a request waits for a free slot
+     * @param pollIntervalMs      Delay between capacity checks while queued
+     * @param fallbackMaxSessions Capacity assumed when /status is unavailable
+     */
+    public GridSessionScheduler(String gridUrl, long queueTimeoutMs, long pollIntervalMs, int fallbackMaxSessions) {
+        try {
+            this.gridUrl = new URL(gridUrl);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid grid.url: " + gridUrl, e);
+        }
+        this.statusUri = URI.create(gridUrl.replaceAll("/+$", "") + "/status");
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.fallbackMaxSessions = fallbackMaxSessions;
+    }
+
+    /**
+     * Wait for a free slot for the browser and create a remote session on it
+     *
+     * @param capabilities Browser options
+     * @return RemoteWebDriver instance
+     */
+    public WebDriver createSession(Capabilities capabilities) {
+        long deadline = System.currentTimeMillis() + queueTimeoutMs;
+        String browserName = capabilities.getBrowserName();
+
+        reserveSlot(browserName, deadline);
+        try {
+            while (true) {
+                try {
+                    RemoteWebDriver driver = new RemoteWebDriver(gridUrl, capabilities);
+                    driver.setFileDetector(new LocalFileDetector());
+                    activeSessions.add(driver);
+                    logger.info("Remote session created on " + gridUrl + " for " + browserName);
+                    return driver;
+                } catch (SessionNotCreatedException e) {
+                    // Another client may have taken the slot between the status check and the request
+                    if (System.currentTimeMillis() + pollIntervalMs > deadline) {
+                        throw e;
+                    }
+                    logger.warning("Grid could not create session yet, retrying: " + e.getRawMessage());
+                    sleep(pollIntervalMs);
+                }
+            }
+        } finally {
+            synchronized (this) {
+                pendingCreations--;
+            }
+        }
+    }
+
+    /**
+     * Record that a driver has been quit. Drivers not created by this scheduler are ignored.
+     *
+     * @param driver Quit driver
+     */
+    public void sessionClosed(WebDriver driver) {
+        activeSessions.remove(driver);
+    }
+
+    private void reserveSlot(String browserName, long deadline) {
+        try {
+            if (!queue.tryLock(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("Timed out queueing for a Grid slot for " + browserName);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while queueing for a Grid slot", e);
+        }
+
+        try {
+            while (true) {
+                int free = getFreeSlots(browserName);
+                synchronized (this) {
+                    if (free - pendingCreations > 0) {
+                        pendingCreations++;
+                        logger.info("Grid slot reserved for " + browserName + " (free: " + free + ")");
+                        return;
+                    }
+                }
+                if (System.currentTimeMillis() + pollIntervalMs > deadline) {
+                    throw new RuntimeException(String.format(
+                            "No free Grid slot for %s within %d ms", browserName, queueTimeoutMs));
+                }
+                logger.info("Grid at capacity for " + browserName + ", waiting in queue");
+                sleep(pollIntervalMs);
+            }
+        } finally {
+            queue.unlock();
+        }
+    }
+
+    /**
+     * Count free slots whose stereotype matches the browser, as reported by the Grid
+     *
+     * @param browserName Browser name from the capabilities
+     * @return Number of free slots
+     */
+    private int getFreeSlots(String browserName) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(statusUri).timeout(Duration.ofSeconds(5)).GET().build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            JsonNode nodes = objectMapper.readTree(response.body()).path("value").path("nodes");
+            if (nodes.isMissingNode()) {
+                return fallbackFreeSlots();
+            }
+
+            int free = 0;
+            for (JsonNode node : nodes) {
+                if (!"UP".equalsIgnoreCase(node.path("availability").asText("UP"))) {
+                    continue;
+                }
+                for (JsonNode slot : node.path("slots")) {
+                    boolean idle = slot.path("session").isNull() || slot.path("session").isMissingNode();
+                    String slotBrowser = slot.path("stereotype").path("browserName").asText("");
+                    if (idle && slotBrowser.equalsIgnoreCase(browserName)) {
+                        free++;
+                    }
+                }
+            }
+            return free;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallbackFreeSlots();
+        } catch (Exception e) {
+            logger.warning("Could not read Grid status from " + statusUri + ": " + e.getMessage());
+            return fallbackFreeSlots();
+        }
+    }
+
+    private int fallbackFreeSlots() {
+        return fallbackMaxSessions - activeSessions.size();
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for Grid capacity", e);
+        }
+    }
+}
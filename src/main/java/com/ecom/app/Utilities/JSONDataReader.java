@@ -1,7 +1,7 @@
 package com.ecom.app.Utilities;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -10,11 +10,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
- * Utility class for reading JSON test data files
+ * Utility class for reading JSON test data files. Reads are served from JsonDataStore,
+ * so each file is parsed once per run and again only when it changes.
  */
 public class JSONDataReader {
 
@@ -28,16 +28,13 @@ public class JSONDataReader {
      */
     public static Map<String, Object> readJsonAsMap(String filePath) {
         try {
-            File file = new File(filePath);
-            if (!file.exists()) {
+            if (!JsonDataStore.exists(filePath)) {
                 logger.severe("JSON file not found: " + filePath);
                 return new HashMap<>();
             }
 
-            Map<String, Object> jsonData = objectMapper.readValue(file, Map.class);
-            logger.info("JSON file read successfully: " + filePath);
-            return jsonData;
-        } catch (IOException e) {
+            return JsonDataStore.read(filePath, Map.class);
+        } catch (UncheckedIOException e) {
             logger.severe("Error reading JSON file: " + filePath + ", Error: " + e.getMessage());
             return new HashMap<>();
         }
@@ -50,16 +47,13 @@ public class JSONDataReader {
      */
     public static List<Map<String, Object>> readJsonAsListOfMaps(String filePath) {
         try {
-            File file = new File(filePath);
-            if (!file.exists()) {
+            if (!JsonDataStore.exists(filePath)) {
                 logger.severe("JSON file not found: " + filePath);
                 return new ArrayList<>();
             }
 
-            List<Map<String, Object>> jsonData = objectMapper.readValue(file, List.class);
-            logger.info("JSON file read successfully as list: " + filePath);
-            return jsonData;
-        } catch (IOException e) {
+            return JsonDataStore.read(filePath, List.class);
+        } catch (UncheckedIOException e) {
             logger.severe("Error reading JSON file as list: " + filePath + ", Error: " + e.getMessage());
             return new ArrayList<>();
         }
@@ -74,16 +68,13 @@ public class JSONDataReader {
      */
     public static <T> T readJsonAsObject(String filePath, Class<T> clazz) {
         try {
-            File file = new File(filePath);
-            if (!file.exists()) {
+            if (!JsonDataStore.exists(filePath)) {
                 logger.severe("JSON file not found: " + filePath);
                 return null;
             }
 
-            T jsonObject = objectMapper.readValue(file, clazz);
-            logger.info("JSON file read successfully as object: " + filePath);
-            return jsonObject;
-        } catch (IOException e) {
+            return JsonDataStore.read(filePath, clazz);
+        } catch (UncheckedIOException e) {
             logger.severe("Error reading JSON file as object: " + filePath + ", Error: " + e.getMessage());
             return null;
         }
@@ -109,41 +100,21 @@ public class JSONDataReader {
      * Get specific value from JSON file using JSON path
      * @param filePath Path to JSON file
      * @param jsonPath JSON path (e.g., "user.name")
-     * @return Value at specified path
+     * @return Value at specified path: text for textual values, otherwise a copy of the JsonNode
      */
     public static Object getValueFromJsonPath(String filePath, String jsonPath) {
         try {
-            File file = new File(filePath);
-            if (!file.exists()) {
+            if (!JsonDataStore.exists(filePath)) {
                 logger.severe("JSON file not found: " + filePath);
                 return null;
             }
 
-            JsonNode rootNode = objectMapper.readTree(file);
-            String[] pathParts = jsonPath.split("\\.");
-            JsonNode currentNode = rootNode;
-
-            for (String part : pathParts) {
-                if (currentNode.isArray()) {
-                    try {
-                        int index = Integer.parseInt(part);
-                        currentNode = currentNode.get(index);
-                    } catch (NumberFormatException e) {
-                        logger.warning("Invalid array index in path: " + part);
-                        return null;
-                    }
-                } else {
-                    currentNode = currentNode.get(part);
-                }
-
-                if (currentNode == null) {
-                    logger.warning("Path not found in JSON: " + jsonPath);
-                    return null;
-                }
+            Object value = JsonDataStore.getValue(filePath, jsonPath);
+            if (value == null) {
+                logger.warning("Path not found in JSON: " + jsonPath);
             }
-
-            return currentNode.isTextual() ? currentNode.asText() : currentNode;
-        } catch (IOException e) {
+            return value;
+        } catch (UncheckedIOException e) {
             logger.severe("Error reading JSON path: " + jsonPath + " from file: " + filePath + ", Error: " + e.getMessage());
             return null;
         }
@@ -0,0 +1,179 @@
+package com.ecom.app.Utilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Parsed JSON test data files kept in memory and reused until the file changes on disk.
+ *
+ * Each file is parsed once into a tree that never leaves this class: scalar lookups return values,
+ * container lookups and whole-file reads return copies, so no caller can change what the next test sees.
+ * Dotted paths such as "2.userEmail" are compiled once into JSON pointers, and every value found is
+ * indexed per file. Files of json.mmapThresholdBytes or more are memory-mapped for parsing instead of
+ * being read into a heap buffer first.
+ */
+public class JsonDataStore {
+
+    private static final Logger logger = Logger.getLogger(JsonDataStore.class.getName());
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final long MMAP_THRESHOLD_BYTES = Long.parseLong(
+            ConfigurationUtils.getInstance().getProperty("json.mmapThresholdBytes", "1048576").trim());
+
+    private static final Map<Path, ParsedJson> files = new ConcurrentHashMap<>();
+    private static final Map<String, JsonPointer> compiledPaths = new ConcurrentHashMap<>();
+
+    private JsonDataStore() {
+    }
+
+    /**
+     * Whether the file exists as a regular file
+     * @param filePath Path to JSON file
+     */
+    public static boolean exists(String filePath) {
+        return Files.isRegularFile(Paths.get(filePath));
+    }
+
+    /**
+     * Value at a dotted path, e.g. "user.name" or "2.userEmail" (numbers index arrays)
+     * @param filePath Path to JSON file
+     * @param jsonPath Dotted path
+     * @return Text for textual values, a copy of the node otherwise, or null when the path is missing
+     */
+    public static Object getValue(String filePath, String jsonPath) {
+        JsonNode node = parsed(filePath).lookup(jsonPath);
+        if (node == null) {
+            return null;
+        }
+        return node.isTextual() ? node.asText() : node.deepCopy();
+    }
+
+    /**
+     * Bind the whole file to a new instance of the given type, e.g. Map.class or a POJO
+     * @param filePath Path to JSON file
+     * @param type Target type
+     */
+    public static <T> T read(String filePath, Class<T> type) {
+        try {
+            return objectMapper.treeToValue(parsed(filePath).root, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not bind " + filePath + " to " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Drop every cached file, e.g. after test data was regenerated in place with the same size and time
+     */
+    public static void clear() {
+        files.clear();
+    }
+
+    private static ParsedJson parsed(String filePath) {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        try {
+            // One stat per lookup is the whole cost of a cache hit
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+            ParsedJson cached = files.get(path);
+            if (cached != null && cached.size == size && cached.modified == modified) {
+                return cached;
+            }
+            ParsedJson fresh = new ParsedJson(size, modified, parse(path, size));
+            files.put(path, fresh);
+            logger.info("JSON file read successfully: " + filePath);
+            return fresh;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JSON file " + filePath, e);
+        }
+    }
+
+    private static JsonNode parse(Path path, long size) throws IOException {
+        if (size < MMAP_THRESHOLD_BYTES) {
+            return objectMapper.readTree(Files.readAllBytes(path));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return objectMapper.readTree(new ByteBufferInputStream(buffer));
+        }
+    }
+
+    private static JsonPointer compile(String jsonPath) {
+        StringBuilder pointer = new StringBuilder();
+        for (String part : jsonPath.split("\\.")) {
+            pointer.append('/').append(part.replace("~", "~0").replace("/", "~1"));
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    /**
+     * One parse of a file, valid while its size and modification time are unchanged
+     */
+    private static final class ParsedJson {
+        private final long size;
+        private final long modified;
+        private final JsonNode root;
+        private final Map<String, JsonNode> index = new ConcurrentHashMap<>();
+
+        ParsedJson(long size, long modified, JsonNode root) {
+            this.size = size;
+            this.modified = modified;
+            this.root = root;
+        }
+
+        /**
+         * Missing paths resolve to MissingNode and are indexed too, so repeated misses are also a map hit
+         */
+        JsonNode lookup(String jsonPath) {
+            JsonNode node = index.computeIfAbsent(jsonPath,
+                    p -> root.at(compiledPaths.computeIfAbsent(p, JsonDataStore::compile)));
+            return node.isMissingNode() ? null : node;
+        }
+    }
+
+    /**
+     * Reads a mapped file without copying it into a heap array first
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
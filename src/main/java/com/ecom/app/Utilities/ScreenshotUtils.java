@@ -1,5 +1,10 @@
 package com.ecom.app.Utilities;
 
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -9,6 +14,12 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.logging.Logger;
 
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
@@ -110,6 +121,87 @@ public class ScreenshotUtils {
         }
     }
 
+    /**
+     * Re-encode a PNG screenshot, optionally scaled down. PNG at full size is returned unchanged.
+     * @param png Screenshot as captured by the driver
+     * @param format Target format, "png" or "jpeg"
+     * @param scale Scale factor between 0 and 1
+     * @param jpegQuality JPEG quality between 0 and 1
+     * @return Encoded image, or the original bytes if it cannot be re-encoded
+     */
+    public static byte[] encode(byte[] png, String format, double scale, float jpegQuality) {
+        boolean jpeg = "jpeg".equalsIgnoreCase(format) || "jpg".equalsIgnoreCase(format);
+        if (!jpeg && scale >= 1.0) {
+            return png;
+        }
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+            if (source == null) {
+                return png;
+            }
+            int width = Math.max(1, (int) Math.round(source.getWidth() * Math.min(scale, 1.0)));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * Math.min(scale, 1.0)));
+            // JPEG has no alpha channel, so draw onto an RGB canvas in both cases
+            BufferedImage target = new BufferedImage(width, height,
+                    jpeg ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = target.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+            graphics.dispose();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            if (jpeg) {
+                ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+                    writer.setOutput(imageOut);
+                    writer.write(null, new IIOImage(target, null, null), param);
+                } finally {
+                    writer.dispose();
+                }
+            } else {
+                ImageIO.write(target, "png", out);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            logger.warning("Failed to re-encode screenshot, keeping PNG: " + e.getMessage());
+            return png;
+        }
+    }
+
+    /**
+     * Save already captured screenshot bytes to the screenshot directory
+     * @param image Encoded image
+     * @param fileName File name without directory
+     * @return Path to saved screenshot file
+     */
+    public static String saveScreenshot(byte[] image, String fileName) {
+        try {
+            Path destinationPath = Paths.get(SCREENSHOT_DIR, fileName);
+            Files.write(destinationPath, image);
+
+            String screenshotPath = destinationPath.toString();
+            logger.info("Screenshot saved: " + screenshotPath);
+            return screenshotPath;
+        } catch (IOException e) {
+            logger.severe("Failed to save screenshot: " + e.getMessage());
+            return "";
+        }
+    }
+
+    /**
+     * Build a screenshot file name in the same pattern as takeScreenshotAndSave
+     * @param testName Test name for filename
+     * @param prefix Prefix such as "FAILED_", or empty
+     * @param extension File extension without dot
+     * @return File name
+     */
+    public static String screenshotFileName(String testName, String prefix, String extension) {
+        return String.format("%s%s_%s.%s", prefix, testName, LocalDateTime.now().format(TIMESTAMP_FORMAT), extension);
+    }
+
     /**
      * Get screenshot directory path
      * @return Screenshot directory path
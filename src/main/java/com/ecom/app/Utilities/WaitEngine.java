@@ -0,0 +1,247 @@
+package com.ecom.app.Utilities;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Explicit-only wait engine. Polls a condition starting at a short interval and backs off
+ * geometrically up to a ceiling, so fast conditions resolve in milliseconds and slow ones
+ * don't hammer the driver. Every wait is timed and aggregated per condition.
+ *
+ * Drivers must run with a zero implicit wait, otherwise each poll can block on its own.
+ */
+public class WaitEngine {
+
+    private static final Logger logger = Logger.getLogger(WaitEngine.class.getName());
+    private static final Map<String, WaitStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final long initialPollMs;
+    private final long maxPollMs;
+    private final double backoffMultiplier;
+
+    /**
+     * Create a wait engine using the wait.* settings from config.properties
+     *
+     * @param driver WebDriver instance
+     */
+    public WaitEngine(WebDriver driver) {
+        this(driver,
+                Duration.ofSeconds(Long.parseLong(ConfigurationUtils.getPropertyStatic("explicitWait", "10"))),
+                Long.parseLong(ConfigurationUtils.getPropertyStatic("wait.pollInterval", "50")),
+                Long.parseLong(ConfigurationUtils.getPropertyStatic("wait.maxPollInterval", "500")),
+                Double.parseDouble(ConfigurationUtils.getPropertyStatic("wait.backoffMultiplier", "1.5")));
+    }
+
+    public WaitEngine(WebDriver driver, Duration timeout, long initialPollMs, long maxPollMs, double backoffMultiplier) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.initialPollMs = initialPollMs;
+        this.maxPollMs = Math.max(initialPollMs, maxPollMs);
+        this.backoffMultiplier = Math.max(1.0, backoffMultiplier);
+    }
+
+    /**
+     * Wait with the default timeout until the condition returns a non-null, non-false value
+     *
+     * @param condition   Condition to poll (e.g. an ExpectedConditions instance)
+     * @param description Condition name used for statistics and error messages
+     * @return Value returned by the condition
+     */
+    public <T> T until(Function<WebDriver, T> condition, String description) {
+        return until(condition, description, timeout);
+    }
+
+    /**
+     * Wait until the condition returns a non-null, non-false value
+     *
+     * @param condition   Condition to poll
+     * @param description Condition name used for statistics and error messages
+     * @param waitTimeout Maximum time to wait
+     * @return Value returned by the condition
+     */
+    public <T> T until(Function<WebDriver, T> condition, String description, Duration waitTimeout) {
+        long start = System.nanoTime();
+        long deadline = start + waitTimeout.toNanos();
+        long pollMs = initialPollMs;
+        RuntimeException lastError = null;
+
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    record(description, start, false);
+                    return value;
+                }
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+
+            long remainingMs = (deadline - System.nanoTime()) / 1_000_000L;
+            if (remainingMs <= 0) {
+                record(description, start, true);
+                throw new TimeoutException(String.format("Timed out after %d ms waiting for %s",
+                        waitTimeout.toMillis(), description), lastError);
+            }
+
+            sleep(Math.min(pollMs, remainingMs));
+            pollMs = Math.min(maxPollMs, (long) Math.ceil(pollMs * backoffMultiplier));
+        }
+    }
+
+    /**
+     * Wait until the condition holds, returning false instead of throwing on timeout
+     *
+     * @param condition   Condition to poll
+     * @param description Condition name used for statistics
+     * @param waitTimeout Maximum time to wait
+     * @return true if the condition was met
+     */
+    public boolean isMet(Function<WebDriver, ?> condition, String description, Duration waitTimeout) {
+        try {
+            until(condition, description, waitTimeout);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Wait until one of the locators has a visible element
+     *
+     * @param locators Locators to check on every poll
+     * @return Index of the first locator that became visible
+     */
+    public int untilAnyVisible(By... locators) {
+        return until(d -> {
+            for (int i = 0; i < locators.length; i++) {
+                if (isVisibleNow(locators[i])) {
+                    return i;
+                }
+            }
+            return null;
+        }, "anyVisible");
+    }
+
+    /**
+     * Negative check without waiting: true when no matching element is currently visible
+     *
+     * @param locator Element locator
+     * @return true if the element is absent or hidden
+     */
+    public boolean isAbsent(By locator) {
+        long start = System.nanoTime();
+        boolean absent = !isVisibleNow(locator);
+        record("absent", start, false);
+        return absent;
+    }
+
+    /**
+     * Single-shot visibility check that never waits
+     *
+     * @param locator Element locator
+     * @return true if a matching element is displayed right now
+     */
+    public boolean isVisibleNow(By locator) {
+        try {
+            for (WebElement element : driver.findElements(locator)) {
+                if (element.isDisplayed()) {
+                    return true;
+                }
+            }
+        } catch (StaleElementReferenceException e) {
+            return false;
+        }
+        return false;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+
+    private static void record(String description, long startNanos, boolean timedOut) {
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000L;
+        statistics.computeIfAbsent(description, k -> new WaitStatistics()).record(elapsedMs, timedOut);
+        logger.fine("Wait '" + description + "' took " + elapsedMs + " ms" + (timedOut ? " (timed out)" : ""));
+    }
+
+    /**
+     * Get the wait timings recorded so far, keyed by condition name
+     *
+     * @return Snapshot of wait statistics
+     */
+    public static Map<String, WaitStatistics> getStatistics() {
+        return new TreeMap<>(statistics);
+    }
+
+    /**
+     * Get a printable table of the recorded wait timings
+     *
+     * @return Summary with one line per condition
+     */
+    public static String getStatisticsSummary() {
+        StringBuilder summary = new StringBuilder(String.format("%-16s %8s %10s %8s %8s %9s%n",
+                "Condition", "Count", "Total(ms)", "Avg(ms)", "Max(ms)", "Timeouts"));
+        getStatistics().forEach((name, stats) -> summary.append(String.format("%-16s %8d %10d %8d %8d %9d%n",
+                name, stats.getCount(), stats.getTotalMs(), stats.getAverageMs(), stats.getMaxMs(), stats.getTimeouts())));
+        return summary.toString();
+    }
+
+    /**
+     * Aggregated timings for one wait condition
+     */
+    public static class WaitStatistics {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalMs = new AtomicLong();
+        private final AtomicLong maxMs = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+
+        void record(long elapsedMs, boolean timedOut) {
+            count.incrementAndGet();
+            totalMs.addAndGet(elapsedMs);
+            maxMs.accumulateAndGet(elapsedMs, Math::max);
+            if (timedOut) {
+                timeouts.incrementAndGet();
+            }
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getTotalMs() {
+            return totalMs.get();
+        }
+
+        public long getAverageMs() {
+            long n = count.get();
+            return n == 0 ? 0 : totalMs.get() / n;
+        }
+
+        public long getMaxMs() {
+            return maxMs.get();
+        }
+
+        public long getTimeouts() {
+            return timeouts.get();
+        }
+    }
+}
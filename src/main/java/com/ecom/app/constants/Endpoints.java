@@ -1,10 +1,12 @@
 package com.ecom.app.constants;
 
+import com.ecom.app.Utilities.ConfigurationUtils;
+
 public class Endpoints {
 
     // Base URLs
     public static final String BASE_UI_URL = "https://rahulshettyacademy.com/client";
-    public static final String BASE_API_URL = "https://rahulshettyacademy.com/api/ecom";
+    public static final String BASE_API_URL = resolveApiBaseUrl();
 
     // Authentication Endpoints
     public static final String LOGIN = "/auth/login";
@@ -18,6 +20,7 @@ public class Endpoints {
     // Cart Endpoints
     public static final String ADD_TO_CART = "/cart/add-to-cart";
     public static final String DELETE_FROM_CART = "/cart/remove-from-cart/{cartId}";
+    public static final String GET_CART_PRODUCTS = "/cart/get-cart-products/{userId}";
 
     // Order Endpoints
     public static final String CREATE_ORDER = "/order/create-order";
@@ -28,6 +31,17 @@ public class Endpoints {
     // User Profile Endpoints
     public static final String GET_USER_PROFILE = "/user/get-profile";
 
+    /**
+     * API base URL from config: the local stub when api.stub.enabled is true, otherwise baseApiUrl
+     */
+    private static String resolveApiBaseUrl() {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        if (Boolean.parseBoolean(config.getProperty("api.stub.enabled", "false"))) {
+            return "http://localhost:" + config.getProperty("api.stub.port", "8089") + "/api/ecom";
+        }
+        return config.getProperty("baseApiUrl", "https://rahulshettyacademy.com/api/ecom");
+    }
+
     private Endpoints() {
         // Private constructor to prevent instantiation
     }
@@ -1,6 +1,9 @@
 package com.ecom.app.BaseComponents;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import org.openqa.selenium.WebDriver;
@@ -16,8 +19,20 @@ import com.ecom.app.PageObjects.OrderConfirmationPage;
 import com.ecom.app.PageObjects.ProductPage;
 import com.ecom.app.Utilities.BrowserDriverFactory;
 import com.ecom.app.Utilities.ConfigurationUtils;
+import com.ecom.app.Utilities.ElementCache;
+import com.ecom.app.Utilities.WaitEngine;
+import com.ecom.app.constants.Endpoints;
 import com.ecom.app.generic.RequestFactory;
+import com.ecom.app.generic.TestAccount;
+import com.ecom.app.generic.TestAccountPool;
+import com.ecom.app.generic.TestStateSeeder;
+import com.ecom.app.specs.ApiConnectionPool;
+import com.ecom.app.stub.EcomStubServer;
 import com.ecom.app.utils.AllureReportUtils;
+import com.ecom.app.utils.ApiLatencyRecorder;
+import com.ecom.app.utils.CassetteFilter;
+import com.ecom.app.utils.LatencySlaFilter;
+import com.ecom.app.utils.ScreenshotPipeline;
 
 import io.qameta.allure.Step;
 import io.restassured.RestAssured;
@@ -27,20 +42,19 @@ public class BaseTest {
 
     protected final Logger logger = Logger.getLogger(this.getClass().getName());
 
-    protected WebDriver driver;
+    // Per-test UI state is confined to the executing thread so methods can run in parallel
+    private static final ThreadLocal<PageObjects> pageObjects = new ThreadLocal<>();
+    // Account the current UI test is logged in as; its cart belongs to this test alone until tear-down
+    private static final ThreadLocal<TestAccount> leasedAccount = new ThreadLocal<>();
 
-    protected LoginPage loginPage;
-    protected ProductPage productPage;
-    protected CartPage cartPage;
-    protected CheckoutPage checkoutPage;
-    protected OrderConfirmationPage orderConfirmationPage;
-
-    protected RequestFactory requestFactory;
-    protected String authToken;
-    protected String userId;
+    // Suite-wide API session, written once in @BeforeSuite and shared read-only by every test instance
+    private static volatile RequestFactory requestFactory;
+    private static volatile TestStateSeeder testStateSeeder;
+    private static volatile String authToken;
+    private static volatile String userId;
 
     protected final String BASE_URL = ConfigurationUtils.getInstance().getProperty("baseUrl");
-    protected final String API_BASE_URL = ConfigurationUtils.getInstance().getProperty("baseApiUrl");
+    protected final String API_BASE_URL = Endpoints.BASE_API_URL;
     protected final String EMAIL = ConfigurationUtils.getInstance().getProperty("email");
     protected final String PASSWORD = ConfigurationUtils.getInstance().getProperty("password");
     protected final String PRODUCT_NAME = ConfigurationUtils.getInstance().getProperty("productName", "ZARA COAT 3");
@@ -52,6 +66,7 @@ public class BaseTest {
         logger.info("=== Test Suite Setup Started ===");
         AllureReportUtils.logStep("🚀 Initializing Test Suite");
 
+        EcomStubServer.startIfEnabled();
         RestAssured.baseURI = API_BASE_URL;
         AllureReportUtils.logTestData("API Base URL", API_BASE_URL);
 
@@ -75,6 +90,7 @@ public class BaseTest {
                 userId = loginResponse.jsonPath().getString("userId");
 
                 requestFactory = new RequestFactory(authToken, userId);
+                testStateSeeder = new TestStateSeeder(requestFactory);
 
                 logger.info("Enhanced API components setup completed");
                 AllureReportUtils.logStep("✅ API authentication setup completed");
@@ -100,39 +116,135 @@ public class BaseTest {
         AllureReportUtils.logStep("⚙️ Setting up test: " + methodName);
 
         if (methodName.contains("UI") || methodName.contains("web") || methodName.contains("e2e")) {
-            setupUITest(methodName);
+            setupUITest(method);
         } else if (methodName.contains("API") || methodName.contains("api")) {
             setupAPITest(methodName);
         }
     }
 
     @Step("🌐 Setting up UI Test Environment")
-    private void setupUITest(String methodName) {
+    private void setupUITest(Method method) {
+        String methodName = method.getName();
         logger.info("Setting up UI test: " + methodName);
         AllureReportUtils.logStep("Initializing WebDriver for UI test");
 
-        String browser = ConfigurationUtils.getInstance().getProperty("browser", "chrome");
-        AllureReportUtils.logTestData("Browser", browser);
+        if (!isLoginUnderTest(method)) {
+            TestAccount account = TestAccountPool.getInstance().lease();
+            leasedAccount.set(account);
+            AllureReportUtils.logTestData("Test Account", account.getEmail());
+        }
+
+        try {
+            // Start API seeding first so it overlaps with browser start-up
+            CompletableFuture<Void> cartSeeding = prepareCart(method);
+
+            String browser = ConfigurationUtils.getInstance().getProperty("browser", "chrome");
+            AllureReportUtils.logTestData("Browser", browser);
+
+            WebDriver driver = BrowserDriverFactory.acquireDriver(browser, false);
+            if (driver == null) {
+                AllureReportUtils.logStep("❌ WebDriver Initialization Failed - Could not create WebDriver instance");
+                throw new RuntimeException("WebDriver initialization failed");
+            }
 
-        driver = BrowserDriverFactory.createDriver(browser, false);
+            cartSeeding.join();
 
-        if (driver != null) {
             AllureReportUtils.logStep("Navigating to application URL");
             driver.get(BASE_URL + "/client");
             AllureReportUtils.logTestData("Application URL", BASE_URL + "/client");
 
-            loginPage = new LoginPage(driver);
-            productPage = new ProductPage(driver);
-            cartPage = new CartPage(driver);
-            checkoutPage = new CheckoutPage(driver);
-            orderConfirmationPage = new OrderConfirmationPage(driver);
+            pageObjects.set(new PageObjects(driver));
+            authenticateBrowser(method);
+        } catch (RuntimeException | AssertionError e) {
+            // Hand the session and account back now; a pooled session or account kept by a failed setup
+            // would be held for good
+            logger.warning("UI test setup failed for " + methodName + ", releasing WebDriver: " + e.getMessage());
+            pageObjects.remove();
+            if (BrowserDriverFactory.isDriverInitialized()) {
+                BrowserDriverFactory.releaseDriver();
+            }
+            releaseAccount();
+            throw e;
+        }
+
+        logger.info("UI test setup completed for: " + methodName);
+        AllureReportUtils.logStep("✅ UI test environment ready");
+    }
+
+    /**
+     * Empty the leased account's cart and add any @SeedCart products, so the test sees only its own items
+     */
+    private CompletableFuture<Void> prepareCart(Method method) {
+        TestAccount account = leasedAccount.get();
+        SeedCart seedCart = method.getAnnotation(SeedCart.class);
+        String offlineApi = offlineApiSource();
+        if (offlineApi != null) {
+            if (seedCart != null) {
+                throw new IllegalStateException("@SeedCart cannot run while the API is served by " + offlineApi
+                        + ": the cart would be seeded there, not on " + BASE_URL + " where the browser checks it");
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+        if (account == null) {
+            if (seedCart != null) {
+                throw new IllegalStateException("@SeedCart needs a logged-in account, not the login page");
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (seedCart != null) {
+            AllureReportUtils.logStep("🌱 Seeding cart via API");
+        }
+        return account.getTestStateSeeder().resetCartAsync(
+                seedCart != null ? Arrays.asList(seedCart.value()) : Collections.emptyList());
+    }
+
+    private static boolean isLoginUnderTest(Method method) {
+        return method.isAnnotationPresent(SkipFastAuth.class)
+                || method.getDeclaringClass().isAnnotationPresent(SkipFastAuth.class);
+    }
+
+    private static void releaseAccount() {
+        TestAccountPool.getInstance().release(leasedAccount.get());
+        leasedAccount.remove();
+    }
 
-            logger.info("UI test setup completed for: " + methodName);
-            AllureReportUtils.logStep("✅ UI test environment ready");
+    @Step("🔑 Authenticating browser session")
+    private void authenticateBrowser(Method method) {
+        if (isLoginUnderTest(method)) {
+            AllureReportUtils.logStep("Login UI under test - browser left on login page");
+            return;
+        }
+        TestAccount account = leasedAccount.get();
+
+        boolean fastAuth = Boolean.parseBoolean(ConfigurationUtils.getInstance().getProperty("fastAuth.enabled", "true"));
+        String offlineApi = offlineApiSource();
+        if (fastAuth && offlineApi != null) {
+            // The token came from the stub or a cassette and means nothing to the real site the browser is on
+            logger.info("API served by " + offlineApi + " - fast auth disabled, logging in through the UI");
+            fastAuth = false;
+        }
+        if (fastAuth) {
+            AllureReportUtils.logStep("Injecting API session token into browser");
+            getLoginPage().loginWithApiToken(account.getAuthToken(), account.getEmail(), account.getPassword());
         } else {
-            AllureReportUtils.logStep("❌ WebDriver Initialization Failed - Could not create WebDriver instance");
-            throw new RuntimeException("WebDriver initialization failed");
+            AllureReportUtils.logStep("Logging in through the UI as " + account.getEmail());
+            getLoginPage().loginWithCredentials(account.getEmail(), account.getPassword());
+        }
+    }
+
+    /**
+     * What serves API calls instead of the application behind baseUrl, or null when they go to the live API
+     * the browser also uses
+     */
+    private static String offlineApiSource() {
+        if (EcomStubServer.isRunning()) {
+            return "the in-process stub";
+        }
+        if (CassetteFilter.getInstance().mayReplay()) {
+            return "cassette replay";
         }
+        return null;
     }
 
     @Step("🔌 Setting up API Test Environment")
@@ -142,17 +254,20 @@ public class BaseTest {
         AllureReportUtils.logTestData("Test Method", methodName);
     }
 
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     @Step("🧹 Test Method Cleanup")
     public void tearDown(Method method) {
         String methodName = method.getName();
         AllureReportUtils.logStep("🧹 Cleaning up after test: " + methodName);
 
-        if ((methodName.contains("UI") || methodName.contains("web") || methodName.contains("e2e")) && driver != null) {
-            AllureReportUtils.logStep("Closing WebDriver session");
-            BrowserDriverFactory.quitDriver();
-            logger.info("WebDriver closed for: " + methodName);
+        if ((methodName.contains("UI") || methodName.contains("web") || methodName.contains("e2e"))
+                && BrowserDriverFactory.isDriverInitialized()) {
+            AllureReportUtils.logStep("Releasing WebDriver session");
+            BrowserDriverFactory.releaseDriver();
+            logger.info("WebDriver released for: " + methodName);
         }
+        pageObjects.remove();
+        releaseAccount();
 
         logger.info("=== Completed Test: " + methodName + " ===");
         AllureReportUtils.logStep("✅ Test cleanup completed");
@@ -168,19 +283,122 @@ public class BaseTest {
             AllureReportUtils.logStep("🗑️ Cleaning up test data");
             requestFactory.cleanupAllOrdersForCustomer();
         }
+        for (TestAccount account : TestAccountPool.getInstance().getAccounts()) {
+            // The suite session above already covers its own user
+            if (account.isLoggedIn() && !account.getUserId().equals(userId)) {
+                account.getRequestFactory().cleanupAllOrdersForCustomer();
+            }
+        }
+
+        AllureReportUtils.logStep("Shutting down pooled WebDriver sessions");
+        BrowserDriverFactory.shutdownPool();
+
+        AllureReportUtils.logStep("Draining screenshot writers");
+        ScreenshotPipeline.getInstance().shutdown();
+
+        AllureReportUtils.logTestData("UI Wait Statistics", WaitEngine.getStatisticsSummary());
+        AllureReportUtils.logTestData("Element Cache Statistics", ElementCache.getGlobalStatisticsSummary());
+        AllureReportUtils.logTestData("API Connection Pool Statistics", ApiConnectionPool.getStatisticsSummary());
+        AllureReportUtils.logTestData("Screenshot Statistics", ScreenshotPipeline.getInstance().getStatisticsSummary());
+        AllureReportUtils.logTestData("API Latency SLA Report", LatencySlaFilter.getInstance().getReport());
+        ApiLatencyRecorder.getInstance().export();
+        AllureReportUtils.logHtmlReport("API Latency Summary", ApiLatencyRecorder.getInstance().toHtml());
+
+        CassetteFilter.getInstance().save();
+        EcomStubServer.stopIfRunning();
 
         AllureReportUtils.logStep("Resetting REST Assured configuration");
         RestAssured.reset();
 
         logger.info("=== Test Suite Teardown Completed ===");
         AllureReportUtils.logStep("✅ Test Suite Teardown Completed Successfully");
+
+        // Raised last, and from configuration rather than a test, so SLA breaches are reported apart from test failures
+        LatencySlaFilter sla = LatencySlaFilter.getInstance();
+        if (sla.isFailOnBreach() && !sla.getBreaches().isEmpty()) {
+            throw new AssertionError("API latency SLA breached " + sla.getBreaches().size() + " time(s):\n"
+                    + sla.getReport());
+        }
+    }
+
+    protected WebDriver getDriver() {
+        return BrowserDriverFactory.getDriver();
+    }
+
+    protected LoginPage getLoginPage() {
+        return getPageObjects().loginPage;
+    }
+
+    protected ProductPage getProductPage() {
+        return getPageObjects().productPage;
+    }
+
+    protected CartPage getCartPage() {
+        return getPageObjects().cartPage;
+    }
+
+    protected CheckoutPage getCheckoutPage() {
+        return getPageObjects().checkoutPage;
     }
 
+    protected OrderConfirmationPage getOrderConfirmationPage() {
+        return getPageObjects().orderConfirmationPage;
+    }
+
+    /**
+     * Account the current UI test is logged in as, or null outside authenticated UI tests
+     */
+    protected TestAccount getTestAccount() {
+        return leasedAccount.get();
+    }
+
+    // The API accessors below follow the leased account, so a UI test's API calls see the browser's cart
+
     protected RequestFactory getRequestFactory() {
-        return requestFactory;
+        TestAccount account = leasedAccount.get();
+        return account != null ? account.getRequestFactory() : requestFactory;
+    }
+
+    protected TestStateSeeder getTestStateSeeder() {
+        TestAccount account = leasedAccount.get();
+        return account != null ? account.getTestStateSeeder() : testStateSeeder;
+    }
+
+    protected String getAuthToken() {
+        TestAccount account = leasedAccount.get();
+        return account != null ? account.getAuthToken() : authToken;
     }
 
     protected String getUserId() {
-        return userId;
+        TestAccount account = leasedAccount.get();
+        return account != null ? account.getUserId() : userId;
+    }
+
+    private PageObjects getPageObjects() {
+        PageObjects pages = pageObjects.get();
+        if (pages == null) {
+            throw new IllegalStateException("Page objects are not initialized for thread "
+                    + Thread.currentThread().getName() + " - is this a UI test?");
+        }
+        return pages;
+    }
+
+    /**
+     * Page objects bound to one thread's WebDriver
+     */
+    private static final class PageObjects {
+        private final LoginPage loginPage;
+        private final ProductPage productPage;
+        private final CartPage cartPage;
+        private final CheckoutPage checkoutPage;
+        private final OrderConfirmationPage orderConfirmationPage;
+
+        private PageObjects(WebDriver driver) {
+            this.loginPage = new LoginPage(driver);
+            this.productPage = new ProductPage(driver);
+            this.cartPage = new CartPage(driver);
+            this.checkoutPage = new CheckoutPage(driver);
+            this.orderConfirmationPage = new OrderConfirmationPage(driver);
+        }
     }
 }
\ No newline at end of file
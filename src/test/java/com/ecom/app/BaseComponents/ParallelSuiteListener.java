@@ -0,0 +1,37 @@
+package com.ecom.app.BaseComponents;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+
+/**
+ * Applies the configured parallel and data-provider thread counts to every suite before it runs,
+ * so the same suite XML can run on a laptop or a 16-core agent (-Dparallel.threadCount=16)
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    private static final Logger logger = Logger.getLogger(ParallelSuiteListener.class.getName());
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        String threadCount = config.getProperty("parallel.threadCount");
+        String dataProviderThreadCount = config.getProperty("dataprovider.threadCount");
+
+        for (XmlSuite suite : suites) {
+            if (threadCount != null && !threadCount.isBlank()) {
+                suite.setThreadCount(Integer.parseInt(threadCount.trim()));
+            }
+            if (dataProviderThreadCount != null && !dataProviderThreadCount.isBlank()) {
+                suite.setDataProviderThreadCount(Integer.parseInt(dataProviderThreadCount.trim()));
+            }
+            logger.info("Suite '" + suite.getName() + "' running with parallel=" + suite.getParallel()
+                    + ", thread-count=" + suite.getThreadCount()
+                    + ", data-provider-thread-count=" + suite.getDataProviderThreadCount());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecom.app.BaseComponents;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Products BaseTest adds to the cart over the API, in parallel with browser start-up,
+ * before a UI test begins
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SeedCart {
+
+    /**
+     * @return Product names as shown in the catalog
+     */
+    String[] value();
+}
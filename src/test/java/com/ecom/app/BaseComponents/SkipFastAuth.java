@@ -0,0 +1,15 @@
+package com.ecom.app.BaseComponents;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a UI test that exercises the login UI itself. BaseTest leaves such tests on the
+ * login page instead of pre-authenticating the browser with the API token.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SkipFastAuth {
+}
@@ -3,16 +3,20 @@ package com.ecom.app.BaseComponents;
 import java.util.logging.Logger;
 
 import org.openqa.selenium.WebDriver;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 import com.ecom.app.Utilities.BrowserDriverFactory;
 import com.ecom.app.Utilities.ScreenshotUtils;
+import com.ecom.app.utils.AttachmentPolicy;
+import com.ecom.app.utils.ScreenshotPipeline;
 
 import io.qameta.allure.Allure;
 import io.qameta.allure.Attachment;
 
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, IInvokedMethodListener {
 
     private static final Logger logger = Logger.getLogger(TestListener.class.getName());
 
@@ -37,6 +41,14 @@ public class TestListener implements ITestListener {
         }
     }
 
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        // Runs before Allure closes the test, so held API attachments can still be added to it
+        if (method.isTestMethod()) {
+            AttachmentPolicy.getInstance().testFinished(!result.isSuccess());
+        }
+    }
+
     @Override
     public void onTestSuccess(ITestResult result) {
         logger.info("✅ TEST PASSED: " + getTestName(result));
@@ -78,17 +90,11 @@ public class TestListener implements ITestListener {
             WebDriver driver = BrowserDriverFactory.getDriver();
 
             if (driver != null) {
+                // Capture once here; encoding, saving and attaching happen on the screenshot writer threads
                 byte[] screenshot = ScreenshotUtils.takeScreenshot(driver);
 
                 if (screenshot.length > 0) {
-                    attachScreenshotToAllure(screenshot, "Success Screenshot");
-
-                    String testName = getTestName(result);
-                    String screenshotPath = ScreenshotUtils.takeScreenshotAndSave(driver, testName);
-
-                    if (!screenshotPath.isEmpty()) {
-                        logger.info("Success screenshot saved: " + screenshotPath);
-                    }
+                    ScreenshotPipeline.getInstance().submit(screenshot, getTestName(result), "Success Screenshot", false);
                 }
             } else {
                 logger.warning("WebDriver not available for success screenshot");
@@ -106,14 +112,7 @@ public class TestListener implements ITestListener {
                 byte[] screenshot = ScreenshotUtils.takeScreenshot(driver);
 
                 if (screenshot.length > 0) {
-                    attachScreenshotToAllure(screenshot, "Failure Screenshot");
-
-                    String testName = getTestName(result);
-                    String screenshotPath = ScreenshotUtils.takeScreenshotOnFailure(driver, testName);
-
-                    if (!screenshotPath.isEmpty()) {
-                        logger.info("Failure screenshot saved: " + screenshotPath);
-                    }
+                    ScreenshotPipeline.getInstance().submit(screenshot, getTestName(result), "Failure Screenshot", true);
                 }
             } else {
                 logger.warning("WebDriver not available for screenshot");
@@ -123,11 +122,6 @@ public class TestListener implements ITestListener {
         }
     }
 
-    @Attachment(value = "{attachmentName}", type = "image/png")
-    private byte[] attachScreenshotToAllure(byte[] screenshot, String attachmentName) {
-        return screenshot;
-    }
-
     private void attachFailureDetails(ITestResult result) {
         Throwable throwable = result.getThrowable();
 
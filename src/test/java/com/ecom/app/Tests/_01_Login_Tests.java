@@ -6,9 +6,14 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import com.ecom.app.BaseComponents.BaseTest;
+import com.ecom.app.BaseComponents.SkipFastAuth;
 import com.ecom.app.Utilities.CsvDataProviders;
+import com.ecom.app.constants.Endpoints;
 import com.ecom.app.constants.StatusCode;
+import com.ecom.app.specs.ResponseValidators;
 import com.ecom.app.utils.AllureReportUtils;
+import com.ecom.app.utils.LatencySlaFilter;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -26,27 +31,29 @@ public class _01_Login_Tests extends BaseTest {
     @Story("Valid UI Login")
     @Description("Test successful UI login and logout flow")
     @Severity(SeverityLevel.CRITICAL)
+    @SkipFastAuth
     public void test_01_UI_verifyValidLoginAndLogout() {
         AllureReportUtils.logStep("Testing valid UI login and logout flow");
-        loginPage.loginWithDefaultCredentials();
-        Assert.assertTrue(loginPage.isUserLoggedIn(), "User should be logged in with valid credentials");
-        loginPage.signOutFromApplication();
-        Assert.assertFalse(loginPage.isUserLoggedIn(), "User should be logged out after sign out");
+        getLoginPage().loginWithDefaultCredentials();
+        Assert.assertTrue(getLoginPage().isUserLoggedIn(), "User should be logged in with valid credentials");
+        getLoginPage().signOutFromApplication();
+        Assert.assertFalse(getLoginPage().isUserLoggedIn(), "User should be logged out after sign out");
     }
 
     @Test(priority = 2, groups = {"smoke"})
     @Story("Invalid UI Login")
     @Description("Test UI login failure with invalid credentials")
     @Severity(SeverityLevel.NORMAL)
+    @SkipFastAuth
     public void test_02_UI_verifyInvalidLogin() {
         AllureReportUtils.logStep("Testing invalid UI login");
-        loginPage.loginToApplication("invalidemail@gmail.com", "wrongpassword");
-        String errorMessage = loginPage.getLoginErrorMessage();
+        getLoginPage().loginToApplication("invalidemail@gmail.com", "wrongpassword");
+        String errorMessage = getLoginPage().getLoginErrorMessage();
         Assert.assertEquals(errorMessage, "Incorrect email or password.", "Expected error message for invalid login");
         AllureReportUtils.logTestData("Error Message", errorMessage);
     }
 
-    @Test(dataProvider = "csvFileReader", dataProviderClass = CsvDataProviders.class, priority = 3, groups = {"regression"})
+    @Test(dataProvider = "csvFileReaderParallel", dataProviderClass = CsvDataProviders.class, priority = 3, groups = {"regression"})
     @Story("Data-driven API Login")
     @Description("Test API login failure with multiple invalid credential combinations")
     @Severity(SeverityLevel.NORMAL)
@@ -63,7 +70,8 @@ public class _01_Login_Tests extends BaseTest {
         Response response = getRequestFactory().login(invalidEmail, invalidPassword);
 
         Assert.assertEquals(response.statusCode(), expectedStatusCode, "Expected status code for invalid login");
-        Assert.assertEquals(response.jsonPath().getString("message"), expectedErrorMessage, "Expected error message for invalid login");
+        JsonNode body = ResponseValidators.errorMessage(expectedStatusCode).validate(response);
+        Assert.assertEquals(body.path("message").asText(null), expectedErrorMessage, "Expected error message for invalid login");
         Assert.assertTrue(response.statusLine().contains("Bad Request"), "Expected status line to contain 'Bad Request'");
     }
 
@@ -77,9 +85,8 @@ public class _01_Login_Tests extends BaseTest {
         Response response = getRequestFactory().login(EMAIL, PASSWORD);
 
         Assert.assertEquals(response.statusCode(), StatusCode.OK.getCode(), "Expected status code 200 for valid login");
-        Assert.assertNotNull(response.jsonPath().getString("token"), "Token should be present in response");
-        Assert.assertNotNull(response.jsonPath().getString("userId"), "User ID should be present in response");
-        Assert.assertEquals(response.jsonPath().getString("message"), "Login Successfully", "Expected success message");
+        // Schema requires non-empty token and userId; the validator also checks the success message
+        ResponseValidators.LOGIN_SUCCESS.validate(response);
     }
 
     @Test(priority = 5, groups = {"regression"})
@@ -89,7 +96,10 @@ public class _01_Login_Tests extends BaseTest {
     public void test_05_API_verifyLoginResponseTime() {
         AllureReportUtils.logStep("Testing API login response time");
         Response response = getRequestFactory().login(EMAIL, PASSWORD);
-        Assert.assertTrue(response.time() < 5000, "API login response time should be less than 5 seconds");
         Assert.assertEquals(response.statusCode(), StatusCode.OK.getCode(), "Login should be successful");
+
+        LatencySlaFilter.SlaResult sla = LatencySlaFilter.getInstance().evaluate(Endpoints.LOGIN);
+        AllureReportUtils.logTestData("Login Latency SLA", sla);
+        Assert.assertTrue(sla.isWithinBudget(), "API login response time should be within its latency budget: " + sla);
     }
 }
@@ -26,8 +26,7 @@ public class _02_Product_Tests extends BaseTest {
     public void test_01_UI_searchProductAndVerify() {
         AllureReportUtils.logStep("Testing product search functionality");
 
-        loginPage.loginWithDefaultCredentials();
-        Assert.assertTrue(productPage.isProductDisplayed(PRODUCT_NAME), "Product should be displayed after search");
+        Assert.assertTrue(getProductPage().isProductDisplayed(PRODUCT_NAME), "Product should be displayed after search");
     }
 
     @Test(priority = 2, groups = {"regression"})
@@ -37,10 +36,9 @@ public class _02_Product_Tests extends BaseTest {
     public void test_02_UI_verifyAddProductToCart() {
         AllureReportUtils.logStep("Testing add product to cart functionality");
 
-        loginPage.loginWithDefaultCredentials();
-        productPage.searchAndAddProductToCart(PRODUCT_NAME);
+        getProductPage().searchAndAddProductToCart(PRODUCT_NAME);
 
-        int finalCartCount = productPage.getCartCount();
+        int finalCartCount = getProductPage().getCartCount();
         Assert.assertEquals(finalCartCount, 1, "Cart count should increase by 1 after adding product");
     }
 
@@ -51,12 +49,11 @@ public class _02_Product_Tests extends BaseTest {
     public void test_03_UI_verifyMultipleProductsAddToCart() {
         AllureReportUtils.logStep("Testing multiple products add to cart");
 
-        loginPage.loginWithDefaultCredentials();
         List<String> productsToAdd = List.of(PRODUCT_NAME, "ADIDAS ORIGINAL");
 
-        productPage.addMultipleProductsToCart(productsToAdd);
+        getProductPage().addMultipleProductsToCart(productsToAdd);
 
-        int finalCartCount = productPage.getCartCount();
+        int finalCartCount = getProductPage().getCartCount();
         Assert.assertEquals(finalCartCount, productsToAdd.size(),
                 "Cart count should increase by number of products added");
 
@@ -70,8 +67,7 @@ public class _02_Product_Tests extends BaseTest {
     public void test_04_UI_verifyProductDisplayNames() {
         AllureReportUtils.logStep("Testing product display names");
 
-        loginPage.loginWithDefaultCredentials();
-        List<String> displayedProducts = productPage.getDisplayedProductNames();
+        List<String> displayedProducts = getProductPage().getDisplayedProductNames();
 
         Assert.assertTrue(displayedProducts.size() > 0, "At least one product should be displayed");
         Assert.assertTrue(displayedProducts.stream().anyMatch(name -> name.contains("ZARA") || name.contains("ADIDAS")),
@@ -87,9 +83,7 @@ public class _02_Product_Tests extends BaseTest {
     public void test_05_UI_verifyProductSearchFunctionality() {
         AllureReportUtils.logStep("Testing product search functionality");
 
-        loginPage.loginWithDefaultCredentials();
-
-        productPage.searchAndAddProductToCart(PRODUCT_NAME);
-        Assert.assertTrue(productPage.isProductDisplayed("ZARA"), "ZARA product should be displayed after search");
+        getProductPage().searchAndAddProductToCart(PRODUCT_NAME);
+        Assert.assertTrue(getProductPage().isProductDisplayed("ZARA"), "ZARA product should be displayed after search");
     }
 }
\ No newline at end of file
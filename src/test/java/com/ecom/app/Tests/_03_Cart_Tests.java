@@ -6,6 +6,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import com.ecom.app.BaseComponents.BaseTest;
+import com.ecom.app.BaseComponents.SeedCart;
 import com.ecom.app.utils.AllureReportUtils;
 
 import io.qameta.allure.Description;
@@ -19,6 +20,10 @@ import io.qameta.allure.Story;
 @Feature("Cart Functionality")
 public class _03_Cart_Tests extends BaseTest {
 
+    // Cart preconditions are seeded over the API, so product names must be compile-time constants
+    private static final String ZARA_COAT = "ZARA COAT 3";
+    private static final String ADIDAS_ORIGINAL = "ADIDAS ORIGINAL";
+
     @Test(priority = 1, groups = {"smoke"})
     @Story("Cart Verification")
     @Description("Test verifying added items are present in cart")
@@ -26,12 +31,11 @@ public class _03_Cart_Tests extends BaseTest {
     public void test_01_UI_verifyAddedItemsArePresentInCart() {
         AllureReportUtils.logStep("Testing cart items verification");
 
-        loginPage.loginWithDefaultCredentials();
-        productPage.searchAndAddProductToCart(PRODUCT_NAME);
-        productPage.navigateToCart();
+        getProductPage().searchAndAddProductToCart(PRODUCT_NAME);
+        getProductPage().navigateToCart();
 
-        cartPage.verifyProductInCart(PRODUCT_NAME);
-        List<String> cartProducts = cartPage.getCartProductNames();
+        getCartPage().verifyProductInCart(PRODUCT_NAME);
+        List<String> cartProducts = getCartPage().getCartProductNames();
 
         Assert.assertTrue(cartProducts.contains(PRODUCT_NAME), "Product should be present in cart");
         Assert.assertEquals(cartProducts.size(), 1, "Cart should contain exactly 1 product");
@@ -41,31 +45,29 @@ public class _03_Cart_Tests extends BaseTest {
     @Story("Remove Item")
     @Description("Test removing item from cart")
     @Severity(SeverityLevel.NORMAL)
+    @SeedCart({ZARA_COAT})
     public void test_02_UI_verifyRemoveCartItem() {
         AllureReportUtils.logStep("Testing cart item removal");
 
-        loginPage.loginWithDefaultCredentials();
-        productPage.searchAndAddProductToCart(PRODUCT_NAME);
-        productPage.navigateToCart();
+        getProductPage().navigateToCart();
 
-        cartPage.verifyProductInCart(PRODUCT_NAME);
-        cartPage.removeProductFromCart(PRODUCT_NAME);
+        getCartPage().verifyProductInCart(ZARA_COAT);
+        getCartPage().removeProductFromCart(ZARA_COAT);
 
-        Assert.assertTrue(cartPage.isCartEmpty(), "Cart should be empty after removing all items");
+        Assert.assertTrue(getCartPage().isCartEmpty(), "Cart should be empty after removing all items");
     }
 
     @Test(priority = 3, groups = {"regression"})
     @Story("Cart Total")
     @Description("Test cart total price calculation")
     @Severity(SeverityLevel.NORMAL)
+    @SeedCart({ZARA_COAT})
     public void test_03_UI_verifyCartTotalPrice() {
         AllureReportUtils.logStep("Testing cart total price");
 
-        loginPage.loginWithDefaultCredentials();
-        productPage.searchAndAddProductToCart(PRODUCT_NAME);
-        productPage.navigateToCart();
+        getProductPage().navigateToCart();
 
-        String totalPrice = cartPage.getCartTotalPrice();
+        String totalPrice = getCartPage().getCartTotalPrice();
         Assert.assertFalse(totalPrice.equals("$0"), "Cart total should not be $0 when items are present");
         Assert.assertTrue(totalPrice.startsWith("$"), "Total price should start with $ symbol");
 
@@ -76,19 +78,18 @@ public class _03_Cart_Tests extends BaseTest {
     @Story("Multiple Items")
     @Description("Test multiple items in cart verification")
     @Severity(SeverityLevel.NORMAL)
+    @SeedCart({ZARA_COAT, ADIDAS_ORIGINAL})
     public void test_04_UI_verifyMultipleItemsInCart() {
         AllureReportUtils.logStep("Testing multiple items in cart");
 
-        loginPage.loginWithDefaultCredentials();
-        List<String> productsToAdd = List.of(PRODUCT_NAME, "ADIDAS ORIGINAL");
-        productPage.addMultipleProductsToCart(productsToAdd);
-        productPage.navigateToCart();
+        List<String> productsToAdd = List.of(ZARA_COAT, ADIDAS_ORIGINAL);
+        getProductPage().navigateToCart();
 
-        List<String> cartProducts = cartPage.getCartProductNames();
+        List<String> cartProducts = getCartPage().getCartProductNames();
         Assert.assertEquals(cartProducts.size(), productsToAdd.size(), "Cart should contain all added products");
 
         for (String product : productsToAdd) {
-            cartPage.verifyProductInCart(product);
+            getCartPage().verifyProductInCart(product);
         }
 
         AllureReportUtils.logTestData("Items in Cart", String.valueOf(cartProducts.size()));
@@ -98,18 +99,16 @@ public class _03_Cart_Tests extends BaseTest {
     @Story("Clear Cart")
     @Description("Test clearing all items from cart")
     @Severity(SeverityLevel.NORMAL)
+    @SeedCart({ZARA_COAT, ADIDAS_ORIGINAL})
     public void test_05_UI_verifyClearAllItemsFromCart() {
         AllureReportUtils.logStep("Testing clear all items from cart");
 
-        loginPage.loginWithDefaultCredentials();
-        List<String> productsToAdd = List.of(PRODUCT_NAME, "ADIDAS ORIGINAL");
-        productPage.addMultipleProductsToCart(productsToAdd);
-        productPage.navigateToCart();
+        getProductPage().navigateToCart();
 
-        Assert.assertFalse(cartPage.isCartEmpty(), "Cart should not be empty before clearing");
+        Assert.assertFalse(getCartPage().isCartEmpty(), "Cart should not be empty before clearing");
 
-        cartPage.clearAllItemsFromCart();
-        Assert.assertTrue(cartPage.isCartEmpty(), "Cart should be empty after clearing all items");
+        getCartPage().clearAllItemsFromCart();
+        Assert.assertTrue(getCartPage().isCartEmpty(), "Cart should be empty after clearing all items");
     }
 
 }
\ No newline at end of file
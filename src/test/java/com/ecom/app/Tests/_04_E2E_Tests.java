@@ -1,14 +1,21 @@
 package com.ecom.app.Tests;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import com.ecom.app.BaseComponents.BaseTest;
 import com.ecom.app.constants.StatusCode;
+import com.ecom.app.generic.RequestFactory;
+import com.ecom.app.generic.TestAccount;
+import com.ecom.app.pojo.order.OrderDetails;
 import com.ecom.app.utils.AllureReportUtils;
+import com.ecom.app.utils.JsonStreamReader;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -22,7 +29,11 @@ import io.restassured.response.Response;
 @Feature("Complete Order Flow")
 public class _04_E2E_Tests extends BaseTest {
 
-    private String createdOrderId;
+    private static final int SEEDED_ORDER_COUNT = 3;
+
+    private volatile String createdOrderId;
+    // test_01 runs on whichever pooled account it leased, so test_02 looks the order up there
+    private volatile TestAccount orderAccount;
 
     @Test(priority = 1, groups = {"smoke"})
     @Story("Complete Order Flow")
@@ -30,21 +41,21 @@ public class _04_E2E_Tests extends BaseTest {
     @Severity(SeverityLevel.BLOCKER)
     public void test_01_e2e_verifyCompleteOrderFlow() {
         AllureReportUtils.logStep("Starting complete E2E order flow test");
+        orderAccount = getTestAccount();
 
-        loginPage.loginWithDefaultCredentials();
-        productPage.searchAndAddProductToCart(PRODUCT_NAME);
-        Assert.assertTrue(productPage.isProductDisplayed(PRODUCT_NAME), "Product should be displayed after search");
-        productPage.navigateToCart();
-        cartPage.verifyProductInCart(PRODUCT_NAME);
-        cartPage.proceedToCheckout();
-        Assert.assertTrue(checkoutPage.isCheckoutPageLoaded(), "Checkout page should be loaded");
-        checkoutPage.completeCheckout(COUNTRY_NAME, "4242424242424242", "123", "Test User");
+        getProductPage().searchAndAddProductToCart(PRODUCT_NAME);
+        Assert.assertTrue(getProductPage().isProductDisplayed(PRODUCT_NAME), "Product should be displayed after search");
+        getProductPage().navigateToCart();
+        getCartPage().verifyProductInCart(PRODUCT_NAME);
+        getCartPage().proceedToCheckout();
+        Assert.assertTrue(getCheckoutPage().isCheckoutPageLoaded(), "Checkout page should be loaded");
+        getCheckoutPage().completeCheckout(COUNTRY_NAME, "4242424242424242", "123", "Test User");
 
-        createdOrderId = orderConfirmationPage.getOrderConfirmationDetails();
+        createdOrderId = getOrderConfirmationPage().getOrderConfirmationDetails();
         Assert.assertFalse(createdOrderId.isEmpty(), "Order ID should not be empty");
         AllureReportUtils.logTestData("Order ID", createdOrderId);
 
-        boolean orderInHistory = orderConfirmationPage.verifyOrderInHistory(createdOrderId);
+        boolean orderInHistory = getOrderConfirmationPage().verifyOrderInHistory(createdOrderId);
         Assert.assertTrue(orderInHistory, "Order should be present in order history");
     }
 
@@ -60,39 +71,75 @@ public class _04_E2E_Tests extends BaseTest {
             return;
         }
 
-        if (createdOrderId == null || createdOrderId.isEmpty()) {
+        if (createdOrderId == null || createdOrderId.isEmpty() || orderAccount == null) {
             Assert.fail("Order ID from test_01 not available - test dependency issue");
         }
 
         AllureReportUtils.logTestData("Order ID to verify", createdOrderId);
+        RequestFactory orderRequests = orderAccount.getRequestFactory();
 
-        Response response = getRequestFactory().getOrdersForCustomer(getUserId());
+        Response response = orderRequests.getOrdersForCustomer(orderAccount.getUserId());
 
         Assert.assertEquals(response.statusCode(), StatusCode.OK.getCode(), "Get orders API should return 200");
-        Assert.assertEquals(response.jsonPath().getString("message"), "Orders fetched for customer Successfully");
+        Assert.assertEquals(JsonStreamReader.getString(response, "message"), "Orders fetched for customer Successfully");
+
+        // Bind one order at a time and keep only the one created in test_01
+        AtomicReference<OrderDetails> found = new AtomicReference<>();
+        int orderCount = JsonStreamReader.forEachElement(response, "data", OrderDetails.class, order -> {
+            if (createdOrderId.equals(order.getId())) {
+                found.compareAndSet(null, order);
+            }
+        });
+        Assert.assertTrue(orderCount > 0, "Customer should have at least one order");
+
+        OrderDetails targetOrder = found.get();
+        Assert.assertNotNull(targetOrder, "Order created in test_01 should be present in API response: " + createdOrderId);
+
+        Assert.assertEquals(targetOrder.getOrderBy(), orderAccount.getEmail(), "Order should be placed by the correct user");
+        Assert.assertEquals(targetOrder.getOrderById(), orderAccount.getUserId(), "Order should be placed by the correct user ID");
+
+        // Order detail lookups go out concurrently on the async client
+        Map<String, Response> details = orderRequests.getOrderDetails(List.of(createdOrderId));
+        details.forEach((orderId, detail) -> {
+            Assert.assertEquals(detail.statusCode(), StatusCode.OK.getCode(), "Get order details API should return 200 for " + orderId);
+            Assert.assertEquals(detail.jsonPath().getString("data._id"), orderId, "Order details should be for the requested order");
+        });
 
-        List<Map<String, Object>> orders = response.jsonPath().getList("data");
-        Assert.assertTrue(orders.size() > 0, "Customer should have at least one order");
+        AllureReportUtils.logTestData("Verified Order ID", createdOrderId);
+        AllureReportUtils.logTestData("Total Orders Found", String.valueOf(orderCount));
+    }
 
-        boolean orderFound = orders.stream()
-            .anyMatch(order -> createdOrderId.equals(order.get("_id")));
+    @Test(priority = 3, groups = {"regression"})
+    @Story("API Order Verification")
+    @Description("Test API order history and concurrent order detail lookups for orders seeded over the API")
+    @Severity(SeverityLevel.NORMAL)
+    public void test_03_API_verifySeededOrderDetails() {
+        AllureReportUtils.logStep("Starting API verification of seeded orders");
 
-        Assert.assertTrue(orderFound, "Order created in test_01 should be present in API response: " + createdOrderId);
+        if (getRequestFactory() == null || getUserId() == null) {
+            AllureReportUtils.logStep("API components not available - skipping verification");
+            return;
+        }
 
-        Map<String, Object> targetOrder = orders.stream()
-            .filter(order -> createdOrderId.equals(order.get("_id")))
-            .findFirst()
-            .orElse(null);
+        List<String> seededOrderIds = getTestStateSeeder().seedOrders(PRODUCT_NAME, COUNTRY_NAME, SEEDED_ORDER_COUNT);
+        Assert.assertEquals(seededOrderIds.size(), SEEDED_ORDER_COUNT, "Every seeded order should return an order ID");
 
-        Assert.assertNotNull(targetOrder, "Target order should be found");
+        Response response = getRequestFactory().getOrdersForCustomer(getUserId());
+        Assert.assertEquals(response.statusCode(), StatusCode.OK.getCode(), "Get orders API should return 200");
 
-        String actualOrderBy = (String) targetOrder.get("orderBy");
-        String actualOrderById = (String) targetOrder.get("orderById");
+        Set<String> historyIds = new HashSet<>(JsonStreamReader.collectField(response, "data", "_id"));
+        for (String orderId : seededOrderIds) {
+            Assert.assertTrue(historyIds.contains(orderId), "Seeded order should be present in order history: " + orderId);
+        }
 
-        Assert.assertEquals(actualOrderBy, EMAIL, "Order should be placed by the correct user");
-        Assert.assertEquals(actualOrderById, getUserId(), "Order should be placed by the correct user ID");
+        // Order detail lookups go out concurrently on the async client
+        Map<String, Response> details = getRequestFactory().getOrderDetails(seededOrderIds);
+        details.forEach((orderId, detail) -> {
+            Assert.assertEquals(detail.statusCode(), StatusCode.OK.getCode(), "Get order details API should return 200 for " + orderId);
+            Assert.assertEquals(detail.jsonPath().getString("data._id"), orderId, "Order details should be for the requested order");
+            Assert.assertEquals(detail.jsonPath().getString("data.orderById"), getUserId(), "Order should be placed by the correct user ID");
+        });
 
-        AllureReportUtils.logTestData("Verified Order ID", createdOrderId);
-        AllureReportUtils.logTestData("Total Orders Found", String.valueOf(orders.size()));
+        AllureReportUtils.logTestData("Verified seeded order IDs", seededOrderIds);
     }
-}
\ No newline at end of file
+}
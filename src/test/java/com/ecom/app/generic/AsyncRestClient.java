@@ -0,0 +1,205 @@
+package com.ecom.app.generic;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+import com.ecom.app.constants.Endpoints;
+import com.ecom.app.specs.ResponseSpecificationBuilder;
+import com.ecom.app.utils.AllureReportUtils;
+import com.ecom.app.utils.LatencySlaFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.ResponseSpecification;
+
+/**
+ * Non-blocking counterpart of RestClient built on java.net.http.HttpClient. Results are REST Assured
+ * Responses validated against the same response specs, so callers can fan out requests and use the
+ * usual assertions on the joined results.
+ *
+ * Responses complete on HttpClient threads, which report to no Allure test, so they are not logged here:
+ * callers log them with AllureReportUtils.logResponse on their own thread after joining.
+ *
+ * Requests go through HttpClient's own connection pool, not ApiConnectionPool, and skip the REST Assured
+ * filter chain, so CassetteFilter neither records nor replays them. Callers that must work against a
+ * cassette fall back to RestClient while CassetteFilter is enabled.
+ */
+public class AsyncRestClient {
+    private static final Logger log = LogManager.getLogger(AsyncRestClient.class);
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(
+            Long.parseLong(ConfigurationUtils.getPropertyStatic("api.timeout", "30")));
+    // Caps in-flight requests; sends over the limit queue up and start as earlier ones complete,
+    // so submitting never blocks the caller
+    private static final int MAX_IN_FLIGHT =
+            Integer.parseInt(ConfigurationUtils.getPropertyStatic("api.async.maxConcurrency", "16"));
+    private static final Object permitLock = new Object();
+    private static final Deque<Runnable> waitingSends = new ArrayDeque<>();
+    private static int inFlight;
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            // Threads are created lazily from whichever test thread sends first; without inherited thread
+            // locals they never carry that test's Allure context into later completions
+            .executor(Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(null, runnable, "async-rest-" + threadCounter.incrementAndGet(), 0, false);
+                thread.setDaemon(true);
+                return thread;
+            }))
+            .build();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final ResponseSpecification respSpecGeneric = ResponseSpecificationBuilder.getGenericResponseSpec();
+
+    public CompletableFuture<Response> doGetRequestAsync(String endpoint, Map<String, Object> pathParams, String authToken) {
+        log.info("Executing async GET request on endpoint: {} with path params: {} and token", endpoint, pathParams);
+        AllureReportUtils.logRequest(endpoint, pathParams, true);
+
+        return send(HttpRequest.newBuilder(resolve(endpoint, pathParams)).GET(), endpoint, authToken);
+    }
+
+    public CompletableFuture<Response> doGetRequestAsync(String endpoint, String authToken) {
+        return doGetRequestAsync(endpoint, Collections.emptyMap(), authToken);
+    }
+
+    public CompletableFuture<Response> doPostRequestAsync(String endpoint, Object requestBody, String authToken) {
+        log.info("Executing async POST request on endpoint: {} with token", endpoint);
+        AllureReportUtils.logRequest(endpoint, requestBody, true);
+
+        return send(HttpRequest.newBuilder(resolve(endpoint, Collections.emptyMap()))
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(requestBody))), endpoint, authToken);
+    }
+
+    private CompletableFuture<Response> send(HttpRequest.Builder builder, String endpoint, String authToken) {
+        builder.timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/plain, */*");
+        if (authToken != null) {
+            builder.header("Authorization", authToken);
+        }
+
+        HttpRequest request = builder.build();
+
+        CompletableFuture<Response> received = new CompletableFuture<>();
+        whenPermitted(() -> {
+            // Timed from the actual send, not from the time spent waiting for a permit
+            long start = System.nanoTime();
+            try {
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                        .whenComplete((httpResponse, error) -> {
+                            releasePermit();
+                            if (error != null) {
+                                received.completeExceptionally(error);
+                                return;
+                            }
+                            try {
+                                long elapsedNanos = System.nanoTime() - start;
+                                LatencySlaFilter.getInstance().record(endpoint, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+                                received.complete(toRestAssuredResponse(httpResponse, TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+                            } catch (RuntimeException e) {
+                                received.completeExceptionally(e);
+                            }
+                        });
+            } catch (RuntimeException e) {
+                releasePermit();
+                received.completeExceptionally(e);
+            }
+        });
+
+        return received.thenApply(response -> {
+            respSpecGeneric.validate(response);
+            log.debug("Async {} {} completed with status {}", request.method(), endpoint, response.getStatusCode());
+            return response;
+        });
+    }
+
+    /**
+     * Start the send now if a permit is free, otherwise queue it for the next releasePermit()
+     */
+    private static void whenPermitted(Runnable send) {
+        synchronized (permitLock) {
+            if (inFlight >= MAX_IN_FLIGHT) {
+                waitingSends.add(send);
+                return;
+            }
+            inFlight++;
+        }
+        send.run();
+    }
+
+    /**
+     * Hand the permit straight to the oldest queued send, or return it when nothing is waiting
+     */
+    private static void releasePermit() {
+        Runnable next;
+        synchronized (permitLock) {
+            next = waitingSends.poll();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+        }
+        next.run();
+    }
+
+    private static Response toRestAssuredResponse(HttpResponse<byte[]> httpResponse, long elapsedMs) {
+        List<Header> headers = new ArrayList<>();
+        httpResponse.headers().map().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+
+        Response response = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine(httpResponse.version() == HttpClient.Version.HTTP_2
+                        ? "HTTP/2 " + httpResponse.statusCode()
+                        : "HTTP/1.1 " + httpResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setContentType(httpResponse.headers().firstValue("Content-Type").orElse(""))
+                .setBody(httpResponse.body())
+                .build();
+        // Record the measured time where REST Assured's own TimingFilter would, so response-time expectations apply
+        ((RestAssuredResponseImpl) response).getGroovyResponse()
+                .setFilterContextProperties(Map.of(TimingFilter.RESPONSE_TIME_MILLISECONDS, elapsedMs));
+        return response;
+    }
+
+    private static URI resolve(String endpoint, Map<String, Object> pathParams) {
+        String path = endpoint;
+        for (Map.Entry<String, Object> param : pathParams.entrySet()) {
+            path = path.replace("{" + param.getKey() + "}",
+                    URLEncoder.encode(String.valueOf(param.getValue()), StandardCharsets.UTF_8));
+        }
+        return URI.create(Endpoints.BASE_API_URL + path);
+    }
+
+    private static String toJson(Object requestBody) {
+        try {
+            return objectMapper.writeValueAsString(requestBody);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize request body", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ecom.app.generic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spaces calls evenly so that callers from any number of threads together stay under a fixed rate
+ */
+public class RateLimiter {
+    private final long intervalNanos;
+    private long nextFreeNanos = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond Maximum rate; zero or less disables limiting
+     */
+    public RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond <= 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    /**
+     * Block until the caller may proceed
+     */
+    public void acquire() {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeNanos);
+            nextFreeNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+}
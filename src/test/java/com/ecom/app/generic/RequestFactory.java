@@ -1,23 +1,35 @@
 package com.ecom.app.generic;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.ecom.app.Utilities.ConfigurationUtils;
 import com.ecom.app.constants.Endpoints;
+import com.ecom.app.specs.ResponseValidators;
 import com.ecom.app.utils.AllureReportUtils;
+import com.ecom.app.utils.CassetteFilter;
+import com.ecom.app.utils.JsonStreamReader;
 
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 
 public class RequestFactory {
     private static final Logger log = LogManager.getLogger(RequestFactory.class);
-    private RestClient restClient = new RestClient();
-    private String authToken;
-    private String userId;
+    // Immutable after construction, so one factory serves parallel tests and data-provider rows
+    private final RestClient restClient = new RestClient();
+    private final AsyncRestClient asyncRestClient = new AsyncRestClient();
+    private final String authToken;
+    private final String userId;
 
     public RequestFactory(String authToken, String userId) {
         this.authToken = authToken;
@@ -96,6 +108,46 @@ public class RequestFactory {
         return restClient.doGetRequest(Endpoints.GET_ORDER_DETAILS, pathParams, authToken);
     }
 
+    /**
+     * The response is not logged to Allure; log it on the test's thread after joining
+     */
+    public CompletableFuture<Response> getOrderDetailsAsync(String orderId) {
+        log.info("Getting order details asynchronously for ID: {}", orderId);
+
+        Map<String, Object> pathParams = new HashMap<>();
+        pathParams.put("orderId", orderId);
+
+        return asyncRestClient.doGetRequestAsync(Endpoints.GET_ORDER_DETAILS, pathParams, authToken);
+    }
+
+    @Step("Get order details for multiple orders concurrently")
+    public Map<String, Response> getOrderDetails(List<String> orderIds) {
+        if (CassetteFilter.getInstance().isEnabled()) {
+            // The async client bypasses the REST Assured filters, so record/replay needs the sequential path
+            Map<String, Response> responses = new LinkedHashMap<>();
+            orderIds.forEach(orderId -> responses.put(orderId, getOrderDetails(orderId)));
+            return responses;
+        }
+        log.info("Fetching details for {} orders concurrently", orderIds.size());
+        AllureReportUtils.logStep("Fetching details for " + orderIds.size() + " orders concurrently");
+
+        Map<String, CompletableFuture<Response>> futures = new LinkedHashMap<>();
+        for (String orderId : orderIds) {
+            futures.put(orderId, getOrderDetailsAsync(orderId));
+        }
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+
+        // Logged here on the test's thread; the async client completes responses on threads with no Allure test
+        Map<String, Response> responses = new LinkedHashMap<>();
+        futures.forEach((orderId, future) -> {
+            Response response = future.join();
+            // Sent outside REST Assured, so the AllureRestAssured filter never saw this exchange
+            AllureReportUtils.logResponse(response, true);
+            responses.put(orderId, response);
+        });
+        return responses;
+    }
+
     @Step("Delete order with ID: {orderId}")
     public Response deleteOrder(String orderId) {
         log.info("Deleting order with ID: {}", orderId);
@@ -118,6 +170,17 @@ public class RequestFactory {
         return restClient.doPostRequest(Endpoints.ADD_TO_CART, cartPayload, authToken);
     }
 
+    @Step("Get cart products for user: {userId}")
+    public Response getCartProducts(String userId) {
+        log.info("Getting cart products for user: {}", userId);
+        AllureReportUtils.logStep("Get cart products for user: " + userId);
+
+        Map<String, Object> pathParams = new HashMap<>();
+        pathParams.put("userId", userId);
+
+        return restClient.doGetRequest(Endpoints.GET_CART_PRODUCTS, pathParams, authToken);
+    }
+
     @Step("Remove product from cart")
     public Response removeFromCart(String cartId) {
         log.info("Removing product from cart: {}", cartId);
@@ -129,6 +192,37 @@ public class RequestFactory {
         return restClient.doDeleteRequest(Endpoints.DELETE_FROM_CART, pathParams, authToken);
     }
 
+    /**
+     * Empty this customer's cart so a test sees only what it adds itself. Leaves the cart as it is,
+     * with a warning, when it cannot be listed.
+     */
+    @Step("Clear cart for customer")
+    public void clearCartForCustomer() {
+        List<String> cartIds;
+        try {
+            Response cartResponse = getCartProducts(userId);
+            if (cartResponse.statusCode() != 200) {
+                log.warn("Failed to fetch cart for clearing. Status: {}", cartResponse.statusCode());
+                AllureReportUtils.logStep("⚠️ Could not fetch cart for clearing - skipping");
+                return;
+            }
+            cartIds = JsonStreamReader.collectField(cartResponse, "products", "_id");
+        } catch (Exception | AssertionError e) {
+            // The generic response spec reports a non-JSON body as AssertionError
+            log.warn("Failed to fetch cart for clearing: {}", e.getMessage());
+            AllureReportUtils.logStep("⚠️ Could not fetch cart for clearing - skipping");
+            return;
+        }
+
+        for (String cartId : cartIds) {
+            Response response = removeFromCart(cartId);
+            if (response.statusCode() != 200) {
+                throw new RuntimeException("Failed to remove cart item " + cartId + ". Status: " + response.statusCode());
+            }
+        }
+        log.info("Cleared {} items from cart of customer: {}", cartIds.size(), userId);
+    }
+
     @Step("Delete product")
     public Response deleteProduct(String productId) {
         log.info("Deleting product: {}", productId);
@@ -162,29 +256,30 @@ public class RequestFactory {
                 return;
             }
 
-            List<Map<String, Object>> orders = ordersResponse.jsonPath().getList("data");
+            // Only the ids are needed, so stream them out instead of building every order as a map
+            List<String> orderIds = JsonStreamReader.collectField(ordersResponse, "data", "_id");
 
-            if (orders == null || orders.isEmpty()) {
+            if (orderIds.isEmpty()) {
                 log.info("✅ No orders found - cleanup not needed");
                 AllureReportUtils.logStep("✅ No orders found - cleanup not needed");
                 return;
             }
 
-            log.info("Found {} orders to cleanup", orders.size());
-            AllureReportUtils.logTestData("Orders found", String.valueOf(orders.size()));
+            log.info("Found {} orders to cleanup", orderIds.size());
+            AllureReportUtils.logTestData("Orders found", String.valueOf(orderIds.size()));
 
-            for (Map<String, Object> order : orders) {
-                String orderIdToDelete = (String) order.get("_id");
+            long start = System.nanoTime();
+            int deleted = deleteOrdersInParallel(orderIds);
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
 
-                try {
-                    deleteOrder(orderIdToDelete);
-                    log.debug("Attempted to delete order: {}", orderIdToDelete);
-                } catch (Exception e) {
-                    log.warn("Could not delete order {}: {}", orderIdToDelete, e.getMessage());
-                }
-            }
+            int remaining = verifyCleanupSuccess();
 
-            verifyCleanupSuccess();
+            String summary = String.format("Orders found: %d%nDeleted: %d%nFailed: %d%nRemaining: %s%n"
+                            + "Elapsed: %.2f s%nThroughput: %.1f deletes/s",
+                    orderIds.size(), deleted, orderIds.size() - deleted, remaining < 0 ? "unknown" : remaining,
+                    elapsedSeconds, elapsedSeconds == 0 ? 0.0 : deleted / elapsedSeconds);
+            log.info("Cleanup summary:\n{}", summary);
+            AllureReportUtils.logTestData("Cleanup summary", summary);
 
         } catch (Exception e) {
             log.error("Error during cleanup process: {}", e.getMessage());
@@ -192,31 +287,105 @@ public class RequestFactory {
         }
     }
 
-    private void verifyCleanupSuccess() {
+    /**
+     * Delete orders on a bounded worker pool, rate limited and with per-order retries
+     *
+     * @return Number of orders deleted successfully
+     */
+    private int deleteOrdersInParallel(List<String> orderIds) throws InterruptedException {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        int threads = Integer.parseInt(config.getProperty("cleanup.threadCount", "8"));
+        int retries = Integer.parseInt(config.getProperty("cleanup.retries", "2"));
+        RateLimiter rateLimiter = new RateLimiter(Double.parseDouble(config.getProperty("cleanup.maxRequestsPerSecond", "20")));
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, orderIds.size())));
+        AtomicInteger deleted = new AtomicInteger();
         try {
-            Thread.sleep(1000);
+            for (String orderIdToDelete : orderIds) {
+                executor.execute(() -> {
+                    if (deleteWithRetry(orderIdToDelete, retries, rateLimiter)) {
+                        deleted.incrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        if (!executor.awaitTermination(Long.parseLong(config.getProperty("cleanup.timeout", "300")), TimeUnit.SECONDS)) {
+            log.warn("Order cleanup did not finish in time, cancelling remaining deletes");
+            executor.shutdownNow();
+        }
+        return deleted.get();
+    }
 
-            Response ordersResponse = getOrdersForCustomer(userId);
+    private boolean deleteWithRetry(String orderIdToDelete, int retries, RateLimiter rateLimiter) {
+        for (int attempt = 0; attempt <= retries; attempt++) {
+            rateLimiter.acquire();
+            try {
+                ResponseValidators.DELETE_SUCCESS.validate(deleteOrder(orderIdToDelete));
+                log.debug("Deleted order: {}", orderIdToDelete);
+                return true;
+            } catch (Exception | AssertionError e) {
+                // Validators report any other status, and the generic response spec any non-JSON body
+                // (e.g. a gateway 502 page), as AssertionError; both are retried
+                log.warn("Could not delete order {} (attempt {}): {}", orderIdToDelete, attempt + 1, e.getMessage());
+            }
+            if (attempt == retries) {
+                break;
+            }
+            try {
+                Thread.sleep(200L << attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
 
-            if (ordersResponse.statusCode() == 200) {
-                List<Map<String, Object>> remainingOrders = ordersResponse.jsonPath().getList("data");
-                int remainingCount = (remainingOrders == null) ? 0 : remainingOrders.size();
+    /**
+     * Poll the order list until it is empty or the verification timeout expires
+     *
+     * @return Remaining order count, or -1 if it could not be fetched
+     */
+    private int verifyCleanupSuccess() {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        long deadline = System.currentTimeMillis()
+                + Long.parseLong(config.getProperty("cleanup.verifyTimeout", "15")) * 1000L;
+        long pollInterval = Long.parseLong(config.getProperty("cleanup.pollInterval", "500"));
+        int remainingCount = -1;
 
-                if (remainingCount == 0) {
-                    log.info("✅ Cleanup successful - 0 orders remaining");
-                    AllureReportUtils.logStep("✅ Cleanup successful - 0 orders remaining");
-                } else {
-                    log.warn("⚠️ Cleanup incomplete - {} orders still remaining", remainingCount);
-                    AllureReportUtils.logStep("⚠️ Cleanup incomplete - " + remainingCount + " orders still remaining");
+        try {
+            while (true) {
+                Response ordersResponse = getOrdersForCustomer(userId);
+                if (ordersResponse.statusCode() == 200) {
+                    remainingCount = JsonStreamReader.countElements(ordersResponse, "data");
+                    if (remainingCount == 0) {
+                        break;
+                    }
                 }
+                if (System.currentTimeMillis() + pollInterval > deadline) {
+                    break;
+                }
+                Thread.sleep(pollInterval);
+            }
 
-                AllureReportUtils.logTestData("Final orders count", String.valueOf(remainingCount));
+            if (remainingCount == 0) {
+                log.info("✅ Cleanup successful - 0 orders remaining");
+                AllureReportUtils.logStep("✅ Cleanup successful - 0 orders remaining");
+            } else if (remainingCount > 0) {
+                log.warn("⚠️ Cleanup incomplete - {} orders still remaining", remainingCount);
+                AllureReportUtils.logStep("⚠️ Cleanup incomplete - " + remainingCount + " orders still remaining");
             } else {
                 log.warn("Could not verify cleanup - unable to fetch final orders count");
             }
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Cleanup verification interrupted");
         } catch (Exception e) {
             log.warn("Could not verify cleanup results: {}", e.getMessage());
         }
+        return remainingCount;
     }
 }
\ No newline at end of file
@@ -18,15 +18,14 @@ import io.restassured.specification.ResponseSpecification;
 public class RestClient {
     private static final Logger log = LogManager.getLogger(RestClient.class);
 
-    private static ResponseSpecification respSpecGeneric = ResponseSpecificationBuilder.getGenericResponseSpec();
-    private static ResponseSpecification respSpecNoContentGeneric = ResponseSpecificationBuilder.getGenericResponseNoContentSpec();
-
-    private static RequestSpecification reqSpecAuth;
+    // Specs are built once and only read afterwards, so one client can be shared across threads
+    private static final ResponseSpecification respSpecGeneric = ResponseSpecificationBuilder.getGenericResponseSpec();
+    private static final ResponseSpecification respSpecNoContentGeneric = ResponseSpecificationBuilder.getGenericResponseNoContentSpec();
 
     @Step("Execute GET request on {endpoint} with path parameters and authorization token")
     public Response doGetRequest(String endpoint, Map<String, Object> pathParams, String authToken) {
         log.info("Executing GET request on endpoint: {} with path params: {} and token", endpoint, pathParams);
-        reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
+        RequestSpecification reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
 
         AllureReportUtils.logStep("GET request to: " + endpoint);
         AllureReportUtils.logRequest(endpoint, pathParams);
@@ -48,7 +47,7 @@ public class RestClient {
     @Step("Execute GET request on {endpoint} with authorization token")
     public Response doGetRequest(String endpoint, String authToken) {
         log.info("Executing GET request on endpoint: {} with token", endpoint);
-        reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
+        RequestSpecification reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
 
         AllureReportUtils.logStep("GET request to: " + endpoint);
         AllureReportUtils.logRequest(endpoint, null);
@@ -69,7 +68,7 @@ public class RestClient {
     @Step("Execute POST request on {endpoint} with authorization token")
     public Response doPostRequest(String endpoint, Object requestBody, String authToken) {
         log.info("Executing POST request on endpoint: {} with token", endpoint);
-        reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
+        RequestSpecification reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
 
         AllureReportUtils.logStep("POST request to: " + endpoint);
         AllureReportUtils.logRequest(endpoint, requestBody);
@@ -113,7 +112,7 @@ public class RestClient {
     @Step("Execute POST request on {endpoint} with path parameters and authorization token")
     public Response doPostRequest(String endpoint, Object requestBody, Map<String, Object> pathParams, String authToken) {
         log.info("Executing POST request on endpoint: {} with path params: {} and token", endpoint, pathParams);
-        reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
+        RequestSpecification reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
 
         AllureReportUtils.logStep("POST request to: " + endpoint + " with path params: " + pathParams);
         AllureReportUtils.logRequest(endpoint, requestBody);
@@ -136,7 +135,7 @@ public class RestClient {
     @Step("Execute DELETE request on {endpoint} with path parameters and authorization token")
     public Response doDeleteRequest(String endpoint, Map<String, Object> pathParams, String authToken) {
         log.info("Executing DELETE request on endpoint: {} with path params: {} and token", endpoint, pathParams);
-        reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
+        RequestSpecification reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
 
         AllureReportUtils.logStep("DELETE request to: " + endpoint + " with path params: " + pathParams);
         AllureReportUtils.logRequest(endpoint, pathParams);
@@ -158,7 +157,7 @@ public class RestClient {
     @Step("Execute DELETE request on {endpoint} with authorization token")
     public Response doDeleteRequest(String endpoint, String authToken) {
         log.info("Executing DELETE request on endpoint: {} with token", endpoint);
-        reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
+        RequestSpecification reqSpecAuth = RequestSpecificationBuilder.getAuthenticatedRequestSpec(authToken);
 
         AllureReportUtils.logStep("DELETE request to: " + endpoint);
         AllureReportUtils.logRequest(endpoint, null);
@@ -0,0 +1,77 @@
+package com.ecom.app.generic;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.restassured.response.Response;
+
+/**
+ * One customer account tests can lease, with an API session opened on first use
+ */
+public class TestAccount {
+    private static final Logger log = LogManager.getLogger(TestAccount.class);
+
+    private final String email;
+    private final String password;
+
+    private String authToken;
+    private String userId;
+    private RequestFactory requestFactory;
+    private TestStateSeeder testStateSeeder;
+
+    public TestAccount(String email, String password) {
+        this.email = email;
+        this.password = password;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getAuthToken() {
+        login();
+        return authToken;
+    }
+
+    public String getUserId() {
+        login();
+        return userId;
+    }
+
+    public RequestFactory getRequestFactory() {
+        login();
+        return requestFactory;
+    }
+
+    public TestStateSeeder getTestStateSeeder() {
+        login();
+        return testStateSeeder;
+    }
+
+    /**
+     * Whether the account has logged in to the API, i.e. whether it may have left orders or cart items behind
+     */
+    public synchronized boolean isLoggedIn() {
+        return requestFactory != null;
+    }
+
+    private synchronized void login() {
+        if (requestFactory != null) {
+            return;
+        }
+        Response loginResponse = new RequestFactory(null, null).login(email, password);
+        if (loginResponse.statusCode() != 200) {
+            throw new IllegalStateException("API login failed for test account " + email
+                    + ". Status: " + loginResponse.statusCode());
+        }
+        authToken = loginResponse.jsonPath().getString("token");
+        userId = loginResponse.jsonPath().getString("userId");
+        requestFactory = new RequestFactory(authToken, userId);
+        testStateSeeder = new TestStateSeeder(requestFactory);
+        log.info("Test account {} logged in as user {}", email, userId);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecom.app.generic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+
+/**
+ * Customer accounts handed out one test at a time, so tests that change an account's cart can run in
+ * parallel without seeing each other's items. The pool holds the configured email/password plus every
+ * "email:password" entry of accounts.pool; with a single account, tests take turns.
+ */
+public class TestAccountPool {
+    private static final Logger log = LogManager.getLogger(TestAccountPool.class);
+    private static final TestAccountPool instance = new TestAccountPool();
+
+    private final List<TestAccount> accounts;
+    private final BlockingQueue<TestAccount> idle;
+    private final long leaseTimeoutSeconds;
+
+    private TestAccountPool() {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        Map<String, TestAccount> byEmail = new LinkedHashMap<>();
+        if (config.getProperty("email") != null) {
+            byEmail.put(config.getProperty("email"), new TestAccount(config.getProperty("email"), config.getProperty("password")));
+        }
+        String[] entries = config.getProperty("accounts.pool", "").split(",");
+        for (int i = 0; i < entries.length; i++) {
+            String entry = entries[i].trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                // The entry holds a password, so only its position is reported
+                throw new IllegalArgumentException("accounts.pool entry " + (i + 1) + " is not in email:password form");
+            }
+            String email = entry.substring(0, separator);
+            byEmail.putIfAbsent(email, new TestAccount(email, entry.substring(separator + 1)));
+        }
+
+        accounts = Collections.unmodifiableList(new ArrayList<>(byEmail.values()));
+        idle = new LinkedBlockingQueue<>(accounts);
+        leaseTimeoutSeconds = Long.parseLong(config.getProperty("accounts.leaseTimeout", "900"));
+        log.info("Test account pool holds {} account(s)", accounts.size());
+    }
+
+    public static TestAccountPool getInstance() {
+        return instance;
+    }
+
+    /**
+     * Take an account no other test is using, waiting up to accounts.leaseTimeout seconds for one
+     *
+     * @return Account to hand back with {@link #release(TestAccount)}
+     * @throws IllegalStateException when no account is configured or none frees up in time
+     */
+    public TestAccount lease() {
+        if (accounts.isEmpty()) {
+            throw new IllegalStateException("No test accounts configured - set email/password or accounts.pool");
+        }
+        try {
+            TestAccount account = idle.poll(leaseTimeoutSeconds, TimeUnit.SECONDS);
+            if (account == null) {
+                throw new IllegalStateException("No test account freed up within " + leaseTimeoutSeconds
+                        + "s - add accounts to accounts.pool or lower parallel.threadCount");
+            }
+            log.debug("Leased test account {}", account.getEmail());
+            return account;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a test account", e);
+        }
+    }
+
+    public void release(TestAccount account) {
+        if (account != null) {
+            idle.offer(account);
+            log.debug("Released test account {}", account.getEmail());
+        }
+    }
+
+    public List<TestAccount> getAccounts() {
+        return accounts;
+    }
+}
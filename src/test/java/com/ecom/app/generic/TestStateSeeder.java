@@ -0,0 +1,148 @@
+package com.ecom.app.generic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+import com.ecom.app.constants.StatusCode;
+import com.ecom.app.specs.ResponseValidators;
+import com.ecom.app.utils.AllureReportUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+
+/**
+ * Builds cart and order preconditions over HTTP so UI tests only drive the behaviour under test
+ */
+public class TestStateSeeder {
+    private static final Logger log = LogManager.getLogger(TestStateSeeder.class);
+    private static final Map<String, String> productIdsByName = new ConcurrentHashMap<>();
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static final ExecutorService seedExecutor = Executors.newFixedThreadPool(
+            Integer.parseInt(ConfigurationUtils.getInstance().getProperty("seed.threadCount", "4")),
+            runnable -> {
+                // Not inheriting thread locals keeps the first caller's Allure test context off the pool threads
+                Thread thread = new Thread(null, runnable, "state-seeder-" + threadCounter.incrementAndGet(), 0, false);
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final RequestFactory requestFactory;
+
+    public TestStateSeeder(RequestFactory requestFactory) {
+        this.requestFactory = requestFactory;
+    }
+
+    @Step("Resolve product ID for: {productName}")
+    public String getProductId(String productName) {
+        if (productIdsByName.isEmpty()) {
+            loadProductCatalog();
+        }
+        String productId = productIdsByName.get(productName);
+        if (productId == null) {
+            throw new IllegalArgumentException("Product not found in catalog: " + productName);
+        }
+        return productId;
+    }
+
+    @Step("Seed cart with products: {productNames}")
+    public void seedCart(List<String> productNames) {
+        seedCartAsync(productNames).join();
+    }
+
+    /**
+     * Add the products to the cart in parallel without blocking the caller,
+     * so seeding can overlap with browser start-up
+     *
+     * @param productNames Product names as shown in the catalog
+     * @return Future completing once every product is in the cart
+     */
+    public CompletableFuture<Void> seedCartAsync(List<String> productNames) {
+        log.info("Seeding cart with {} products via API", productNames.size());
+        AllureReportUtils.logTestData("Seeded cart products", productNames);
+
+        List<String> productIds = productNames.stream().map(this::getProductId).collect(Collectors.toList());
+        CompletableFuture<?>[] additions = productIds.stream()
+                .map(productId -> CompletableFuture.runAsync(() -> addToCart(productId), seedExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(additions)
+                .whenComplete((ignored, error) -> {
+                    if (error == null) {
+                        log.info("Cart seeded with products: {}", productNames);
+                    }
+                });
+    }
+
+    /**
+     * Empty the cart and then add the products, without blocking the caller
+     *
+     * @param productNames Product names as shown in the catalog; empty to just clear the cart
+     * @return Future completing once the cart has been cleared and seeded
+     */
+    public CompletableFuture<Void> resetCartAsync(List<String> productNames) {
+        return CompletableFuture.runAsync(requestFactory::clearCartForCustomer, seedExecutor)
+                .thenCompose(ignored -> productNames.isEmpty()
+                        ? CompletableFuture.<Void>completedFuture(null)
+                        : seedCartAsync(productNames));
+    }
+
+    @Step("Seed {count} orders for product: {productName}")
+    public List<String> seedOrders(String productName, String country, int count) {
+        log.info("Seeding {} orders for product {} via API", count, productName);
+        String productId = getProductId(productName);
+
+        List<CompletableFuture<List<String>>> creations = IntStream.range(0, count)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> createOrder(productId, country), seedExecutor))
+                .collect(Collectors.toList());
+
+        List<String> orderIds = new ArrayList<>();
+        try {
+            creations.forEach(creation -> orderIds.addAll(creation.join()));
+        } catch (CompletionException e) {
+            throw new RuntimeException("Order seeding failed: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        AllureReportUtils.logTestData("Seeded order IDs", orderIds);
+        return orderIds;
+    }
+
+    private synchronized void loadProductCatalog() {
+        if (!productIdsByName.isEmpty()) {
+            return;
+        }
+        // The schema guarantees every product has an _id and a productName
+        JsonNode products = ResponseValidators.PRODUCTS_LIST.validate(requestFactory.getAllProducts());
+        for (JsonNode product : products.path("data")) {
+            productIdsByName.put(product.path("productName").asText(), product.path("_id").asText());
+        }
+        log.info("Cached {} product IDs for seeding", productIdsByName.size());
+    }
+
+    private void addToCart(String productId) {
+        Response response = requestFactory.addToCart(productId);
+        if (response.statusCode() != StatusCode.OK.getCode()) {
+            throw new RuntimeException("Failed to seed cart with product " + productId + ". Status: " + response.statusCode());
+        }
+    }
+
+    private List<String> createOrder(String productId, String country) {
+        JsonNode order = ResponseValidators.ORDER_CREATED.validate(requestFactory.createOrder(productId, country));
+        List<String> orderIds = new ArrayList<>();
+        order.path("orders").forEach(orderId -> orderIds.add(orderId.asText()));
+        return orderIds;
+    }
+}
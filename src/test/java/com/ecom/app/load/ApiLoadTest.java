@@ -0,0 +1,83 @@
+package com.ecom.app.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+import com.ecom.app.constants.Endpoints;
+import com.ecom.app.stub.EcomStubServer;
+import com.ecom.app.utils.AllureReportUtils;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+
+/**
+ * Load run over the API checkout flow. Not part of the functional suites; run it with
+ * mvn test -Pload (TestSuites/LoadSuite.xml) and size it with the load.* properties. With
+ * -Dapi.stub.enabled=true it runs against the in-process stub instead of the live API.
+ */
+@Epic("Performance")
+@Feature("API Load")
+public class ApiLoadTest {
+    private static final Logger log = LogManager.getLogger(ApiLoadTest.class);
+
+    @BeforeClass
+    public void startStub() {
+        EcomStubServer.startIfEnabled();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        EcomStubServer.stopIfRunning();
+    }
+
+    @Test
+    @Description("Drive the login → products → cart → order → history → delete flow under load")
+    public void test_01_LOAD_checkoutFlow() throws IOException {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        String email = config.getProperty("email");
+        String password = config.getProperty("password");
+        String country = config.getProperty("countryName", "India");
+
+        LoadScenario scenario = LoadScenario.named("API checkout")
+                .step(Endpoints.LOGIN, vu -> vu.login(email, password))
+                .step(Endpoints.GET_ALL_PRODUCTS, vu -> {
+                    Response response = vu.requests().getAllProducts();
+                    vu.put("productId", response.jsonPath().getString("data[0]._id"));
+                    return response;
+                })
+                .step(Endpoints.ADD_TO_CART, vu -> vu.requests().addToCart(vu.get("productId")))
+                .step(Endpoints.CREATE_ORDER, vu -> {
+                    Response response = vu.requests().createOrder(vu.get("productId"), country);
+                    vu.put("orderId", response.jsonPath().getString("orders[0]"));
+                    return response;
+                })
+                .step(Endpoints.GET_ORDERS_FOR_CUSTOMER, vu -> vu.requests().getOrdersForCustomer(vu.getUserId()))
+                .step(Endpoints.DELETE_ORDER, vu -> vu.requests().deleteOrder(vu.get("orderId")));
+
+        LoadReport report = new LoadRunner().run(scenario, LoadProfile.fromConfig());
+
+        String table = report.toTable();
+        Path reportFile = Paths.get("target", "load-report.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.write(reportFile, table.getBytes(StandardCharsets.UTF_8));
+        log.info("Load report written to {}", reportFile.toAbsolutePath());
+        AllureReportUtils.logTestData("Load Report", table);
+
+        double maxErrorRate = Double.parseDouble(config.getProperty("load.maxErrorRate", "0.01"));
+        Assert.assertTrue(report.getErrorRate() <= maxErrorRate,
+                String.format("Error rate %.2f%% exceeds %.2f%%", report.getErrorRate() * 100, maxErrorRate * 100));
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecom.app.load;
+
+import java.time.Duration;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+
+/**
+ * How load is applied: workload model, virtual users, ramp-up, duration and target rate
+ */
+public class LoadProfile {
+
+    public enum WorkloadModel {
+        /** Fixed number of users looping the scenario; throughput follows latency */
+        CLOSED,
+        /** Iterations arrive at the target rate regardless of latency; users are only a concurrency cap */
+        OPEN
+    }
+
+    private final WorkloadModel model;
+    private final int virtualUsers;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final double targetRps;
+    private final Duration thinkTime;
+
+    /**
+     * @param model        Workload model
+     * @param virtualUsers Users looping (closed) or maximum concurrent iterations (open)
+     * @param rampUp       Time over which users start (closed) or the arrival rate climbs to target (open)
+     * @param duration     Total run time including ramp-up
+     * @param targetRps    Iterations per second; required for open, optional cap for closed (0 = none)
+     * @param thinkTime    Pause between iterations of one user in the closed model
+     */
+    public LoadProfile(WorkloadModel model, int virtualUsers, Duration rampUp, Duration duration, double targetRps,
+            Duration thinkTime) {
+        if (model == WorkloadModel.OPEN && targetRps <= 0) {
+            throw new IllegalArgumentException("Open workload model requires a target rate (load.targetRps)");
+        }
+        this.model = model;
+        this.virtualUsers = Math.max(1, virtualUsers);
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.targetRps = targetRps;
+        this.thinkTime = thinkTime;
+    }
+
+    /**
+     * Build a profile from the load.* keys in config.properties (overridable with -D)
+     *
+     * @return LoadProfile instance
+     */
+    public static LoadProfile fromConfig() {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        return new LoadProfile(
+                WorkloadModel.valueOf(config.getProperty("load.model", "closed").trim().toUpperCase()),
+                Integer.parseInt(config.getProperty("load.virtualUsers", "10")),
+                Duration.ofSeconds(Long.parseLong(config.getProperty("load.rampUp", "10"))),
+                Duration.ofSeconds(Long.parseLong(config.getProperty("load.duration", "60"))),
+                Double.parseDouble(config.getProperty("load.targetRps", "0")),
+                Duration.ofMillis(Long.parseLong(config.getProperty("load.thinkTime", "0"))));
+    }
+
+    public WorkloadModel getModel() {
+        return model;
+    }
+
+    public int getVirtualUsers() {
+        return virtualUsers;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public double getTargetRps() {
+        return targetRps;
+    }
+
+    public Duration getThinkTime() {
+        return thinkTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s model, %d virtual users, ramp-up %ds, duration %ds, target %.1f it/s, think time %d ms",
+                model, virtualUsers, rampUp.getSeconds(), duration.getSeconds(), targetRps, thinkTime.toMillis());
+    }
+}
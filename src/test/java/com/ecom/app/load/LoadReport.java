@@ -0,0 +1,140 @@
+package com.ecom.app.load;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ecom.app.utils.LatencyHistogram;
+
+/**
+ * Results of a load run: latency histogram and error count per endpoint, plus iteration totals
+ */
+public class LoadReport {
+    private final String scenarioName;
+    private final LoadProfile profile;
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, Integer> endpointOrder = new LinkedHashMap<>();
+    private final AtomicLong iterations = new AtomicLong();
+    private final AtomicLong failedIterations = new AtomicLong();
+    private final AtomicLong droppedIterations = new AtomicLong();
+    private volatile long elapsedMillis;
+
+    LoadReport(LoadScenario scenario, LoadProfile profile) {
+        this.scenarioName = scenario.getName();
+        this.profile = profile;
+        for (LoadScenario.Step step : scenario.getSteps()) {
+            endpoints.computeIfAbsent(step.getEndpoint(), k -> new EndpointStats());
+            endpointOrder.putIfAbsent(step.getEndpoint(), endpointOrder.size());
+        }
+    }
+
+    void recordRequest(String endpoint, long micros, boolean error) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, k -> new EndpointStats());
+        stats.latency.record(micros);
+        if (error) {
+            stats.errors.incrementAndGet();
+        }
+    }
+
+    void recordIteration(boolean failed) {
+        iterations.incrementAndGet();
+        if (failed) {
+            failedIterations.incrementAndGet();
+        }
+    }
+
+    void recordDroppedIteration() {
+        droppedIterations.incrementAndGet();
+    }
+
+    void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public Map<String, EndpointStats> getEndpointStats() {
+        Map<String, EndpointStats> ordered = new LinkedHashMap<>();
+        endpointOrder.keySet().forEach(endpoint -> ordered.put(endpoint, endpoints.get(endpoint)));
+        endpoints.forEach(ordered::putIfAbsent);
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    public long getIterations() {
+        return iterations.get();
+    }
+
+    public long getFailedIterations() {
+        return failedIterations.get();
+    }
+
+    public long getDroppedIterations() {
+        return droppedIterations.get();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Overall error rate across every request of the run
+     *
+     * @return Errors divided by requests, 0 when nothing ran
+     */
+    public double getErrorRate() {
+        long requests = 0;
+        long errors = 0;
+        for (EndpointStats stats : endpoints.values()) {
+            requests += stats.getRequests();
+            errors += stats.getErrors();
+        }
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    /**
+     * Get a printable table with one row per endpoint
+     *
+     * @return Report text
+     */
+    public String toTable() {
+        double seconds = Math.max(elapsedMillis, 1) / 1000.0;
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("Scenario: %s%nProfile: %s%nElapsed: %.1f s%n", scenarioName, profile, seconds));
+        table.append(String.format("Iterations: %d (failed: %d, dropped: %d, %.1f it/s)%n%n",
+                iterations.get(), failedIterations.get(), droppedIterations.get(), iterations.get() / seconds));
+        table.append(String.format("%-42s %8s %7s %7s %8s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Error%", "RPS", "p50(ms)", "p95(ms)", "p99(ms)", "Max(ms)"));
+        getEndpointStats().forEach((endpoint, stats) -> table.append(String.format(
+                "%-42s %8d %7d %6.2f%% %8.1f %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint, stats.getRequests(), stats.getErrors(), stats.getErrorRate() * 100, stats.getRequests() / seconds,
+                stats.getPercentileMillis(50), stats.getPercentileMillis(95), stats.getPercentileMillis(99),
+                stats.getMaxMillis())));
+        return table.toString();
+    }
+
+    public static class EndpointStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+
+        public long getRequests() {
+            return latency.getCount();
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+
+        public double getErrorRate() {
+            long requests = getRequests();
+            return requests == 0 ? 0 : (double) errors.get() / requests;
+        }
+
+        public double getPercentileMillis(double percentile) {
+            return latency.getPercentileMicros(percentile) / 1000.0;
+        }
+
+        public double getMaxMillis() {
+            return latency.getMaxMicros() / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.ecom.app.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ecom.app.generic.RateLimiter;
+
+import io.restassured.response.Response;
+
+/**
+ * Drives a LoadScenario through the regular RequestFactory code paths with a LoadProfile
+ */
+public class LoadRunner {
+    private static final Logger log = LogManager.getLogger(LoadRunner.class);
+
+    /**
+     * Run the scenario until the profile duration has elapsed and in-flight iterations have finished
+     *
+     * @param scenario Steps each virtual user performs per iteration
+     * @param profile  Workload model and sizing
+     * @return Per-endpoint latency and error report
+     */
+    public LoadReport run(LoadScenario scenario, LoadProfile profile) {
+        log.info("Starting load run '{}': {}", scenario.getName(), profile);
+        LoadReport report = new LoadReport(scenario, profile);
+        ExecutorService executor = Executors.newFixedThreadPool(profile.getVirtualUsers(), threadFactory());
+        // Users are created up front so client initialisation does not eat into the measured run
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < profile.getVirtualUsers(); i++) {
+            users.add(new VirtualUser(i + 1));
+        }
+        long start = System.nanoTime();
+
+        try {
+            if (profile.getModel() == LoadProfile.WorkloadModel.OPEN) {
+                runOpen(scenario, profile, report, executor, users, start);
+            } else {
+                runClosed(scenario, profile, report, executor, users, start);
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(profile.getDuration().getSeconds() + 60, TimeUnit.SECONDS)) {
+                log.warn("Load run did not drain in time, interrupting virtual users");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+
+        report.setElapsedMillis((System.nanoTime() - start) / 1_000_000L);
+        log.info("Load run '{}' finished:\n{}", scenario.getName(), report.toTable());
+        return report;
+    }
+
+    /**
+     * Closed model: each virtual user loops the scenario; users start evenly across the ramp-up
+     */
+    private void runClosed(LoadScenario scenario, LoadProfile profile, LoadReport report, ExecutorService executor,
+            List<VirtualUser> users, long start) {
+        long end = start + profile.getDuration().toNanos();
+        long rampStepNanos = profile.getRampUp().toNanos() / profile.getVirtualUsers();
+        RateLimiter pacing = new RateLimiter(profile.getTargetRps());
+
+        for (int i = 0; i < users.size(); i++) {
+            VirtualUser user = users.get(i);
+            long userStart = start + i * rampStepNanos;
+            executor.execute(() -> {
+                parkUntil(userStart);
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    pacing.acquire();
+                    runIteration(scenario, user, report);
+                    if (!profile.getThinkTime().isZero()) {
+                        parkUntil(System.nanoTime() + profile.getThinkTime().toNanos());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Open model: iterations arrive on schedule (rate ramping linearly to target), independent of how
+     * fast earlier ones finish. An arrival with no free virtual user is counted as dropped.
+     */
+    private void runOpen(LoadScenario scenario, LoadProfile profile, LoadReport report, ExecutorService executor,
+            List<VirtualUser> users, long start) {
+        BlockingQueue<VirtualUser> idleUsers = new ArrayBlockingQueue<>(users.size(), false, users);
+
+        double rampSeconds = profile.getRampUp().toNanos() / 1e9;
+        double durationSeconds = profile.getDuration().toNanos() / 1e9;
+        long dispatched = 0;
+
+        while (true) {
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            if (elapsed >= durationSeconds) {
+                break;
+            }
+            long due = (long) expectedArrivals(elapsed, rampSeconds, profile.getTargetRps());
+            for (; dispatched < due; dispatched++) {
+                VirtualUser user = idleUsers.poll();
+                if (user == null) {
+                    report.recordDroppedIteration();
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        runIteration(scenario, user, report);
+                    } finally {
+                        idleUsers.offer(user);
+                    }
+                });
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Number of arrivals expected after the given time with a linear ramp from zero to the target rate
+     */
+    private static double expectedArrivals(double elapsed, double rampSeconds, double targetRps) {
+        if (elapsed < rampSeconds) {
+            return targetRps * elapsed * elapsed / (2 * rampSeconds);
+        }
+        return targetRps * (rampSeconds / 2 + (elapsed - rampSeconds));
+    }
+
+    private void runIteration(LoadScenario scenario, VirtualUser user, LoadReport report) {
+        boolean failed = false;
+        for (LoadScenario.Step step : scenario.getSteps()) {
+            long stepStart = System.nanoTime();
+            boolean error;
+            try {
+                Response response = step.execute(user);
+                error = response == null || response.statusCode() >= 400;
+            } catch (Exception | AssertionError e) {
+                log.debug("Virtual user {} failed on {}: {}", user.getId(), step.getEndpoint(), e.getMessage());
+                error = true;
+            }
+            report.recordRequest(step.getEndpoint(), (System.nanoTime() - stepStart) / 1000L, error);
+            if (error) {
+                failed = true;
+                break;
+            }
+        }
+        report.recordIteration(failed);
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Virtual-user threads are created from the test thread, but must not inherit its thread locals: Allure's
+     * current test is an InheritableThreadLocal, and every @Step and attachment from the run would otherwise
+     * be added to the load test's own result
+     */
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(null, runnable, "load-vu-" + counter.incrementAndGet(), 0, false);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.ecom.app.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import io.restassured.response.Response;
+
+/**
+ * Ordered list of RequestFactory calls that one virtual user performs per iteration. Each step is
+ * labelled with its Endpoints constant so latencies are aggregated per endpoint.
+ */
+public class LoadScenario {
+    private final String name;
+    private final List<Step> steps = new ArrayList<>();
+
+    private LoadScenario(String name) {
+        this.name = name;
+    }
+
+    public static LoadScenario named(String name) {
+        return new LoadScenario(name);
+    }
+
+    /**
+     * Append a step. A step fails when it throws or returns a 4xx/5xx status; the rest of the
+     * iteration is then skipped because later steps usually depend on its result.
+     *
+     * @param endpoint Endpoints constant used as the metrics key
+     * @param action   Call to make, e.g. {@code vu -> vu.requests().getAllProducts()}
+     * @return This scenario
+     */
+    public LoadScenario step(String endpoint, Function<VirtualUser, Response> action) {
+        steps.add(new Step(endpoint, action));
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    public static class Step {
+        private final String endpoint;
+        private final Function<VirtualUser, Response> action;
+
+        Step(String endpoint, Function<VirtualUser, Response> action) {
+            this.endpoint = endpoint;
+            this.action = action;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        Response execute(VirtualUser user) {
+            return action.apply(user);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ecom.app.load;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ecom.app.generic.RequestFactory;
+
+import io.restassured.response.Response;
+
+/**
+ * One simulated user: its own API session plus scratch state shared between the steps of an iteration
+ */
+public class VirtualUser {
+    private final int id;
+    private final Map<String, Object> state = new HashMap<>();
+    private RequestFactory requestFactory = new RequestFactory(null, null);
+    private String userId;
+
+    public VirtualUser(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Log in and switch this user's RequestFactory to the returned token
+     *
+     * @param email    Login email
+     * @param password Login password
+     * @return Login response
+     */
+    public Response login(String email, String password) {
+        Response response = requestFactory.login(email, password);
+        if (response.statusCode() == 200) {
+            userId = response.jsonPath().getString("userId");
+            requestFactory = new RequestFactory(response.jsonPath().getString("token"), userId);
+        }
+        return response;
+    }
+
+    public RequestFactory requests() {
+        return requestFactory;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) {
+        return (T) state.get(key);
+    }
+
+    public void put(String key, Object value) {
+        state.put(key, value);
+    }
+}
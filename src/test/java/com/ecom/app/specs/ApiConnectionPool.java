@@ -0,0 +1,126 @@
+package com.ecom.app.specs;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.ExecutionContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+
+/**
+ * Single pooled Apache HttpClient shared by every REST Assured request, so connections (and their
+ * TLS sessions) are kept alive and reused instead of being opened per call.
+ *
+ * Uses the deprecated PoolingClientConnectionManager/DefaultHttpClient pair because REST Assured
+ * still requires an AbstractHttpClient.
+ */
+@SuppressWarnings("deprecation")
+public class ApiConnectionPool {
+    private static final Logger log = LogManager.getLogger(ApiConnectionPool.class);
+
+    private static final int TIMEOUT_MS = Integer.parseInt(ConfigurationUtils.getPropertyStatic("api.timeout", "30")) * 1000;
+    private static final int RETRIES = Integer.parseInt(ConfigurationUtils.getPropertyStatic("api.retries", "3"));
+    private static final int MAX_TOTAL = Integer.parseInt(ConfigurationUtils.getPropertyStatic("api.pool.maxTotal", "20"));
+    private static final int MAX_PER_ROUTE = Integer.parseInt(ConfigurationUtils.getPropertyStatic("api.pool.maxPerRoute", "10"));
+    private static final long KEEP_ALIVE_MS = Long.parseLong(ConfigurationUtils.getPropertyStatic("api.pool.keepAlive", "30")) * 1000L;
+    private static final long IDLE_TIMEOUT_MS = Long.parseLong(ConfigurationUtils.getPropertyStatic("api.pool.idleTimeout", "15")) * 1000L;
+
+    private static final AtomicLong requests = new AtomicLong();
+    private static final AtomicLong newConnections = new AtomicLong();
+
+    private static final PoolingClientConnectionManager connectionManager = createConnectionManager();
+    private static final DefaultHttpClient httpClient = createHttpClient();
+    private static final RestAssuredConfig restAssuredConfig = RestAssuredConfig.config().httpClient(
+            HttpClientConfig.httpClientConfig()
+                    .reuseHttpClientInstance()
+                    .httpClientFactory(() -> httpClient)
+                    .setParam("http.connection.timeout", TIMEOUT_MS)
+                    .setParam("http.socket.timeout", TIMEOUT_MS));
+
+    static {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "api-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepMs = Math.max(1000L, IDLE_TIMEOUT_MS / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(IDLE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }, sweepMs, sweepMs, TimeUnit.MILLISECONDS);
+
+        log.info("API connection pool ready. Max total: {}, max per route: {}, keep-alive: {} ms, timeout: {} ms, retries: {}",
+                MAX_TOTAL, MAX_PER_ROUTE, KEEP_ALIVE_MS, TIMEOUT_MS, RETRIES);
+    }
+
+    private static PoolingClientConnectionManager createConnectionManager() {
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager(
+                SchemeRegistryFactory.createDefault(), KEEP_ALIVE_MS, TimeUnit.MILLISECONDS);
+        manager.setMaxTotal(MAX_TOTAL);
+        manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        return manager;
+    }
+
+    private static DefaultHttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        // Idempotent requests are retried on I/O errors such as a pooled connection closed by the server
+        client.setHttpRequestRetryHandler(new DefaultHttpRequestRetryHandler(RETRIES, false));
+        client.setKeepAliveStrategy((response, context) -> KEEP_ALIVE_MS);
+        client.addResponseInterceptor((HttpResponseInterceptor) (response, context) -> {
+            requests.incrementAndGet();
+            Object connection = context.getAttribute(ExecutionContext.HTTP_CONNECTION);
+            // The request counter includes the current request, so 1 means the connection was just opened
+            if (connection instanceof HttpConnection
+                    && ((HttpConnection) connection).getMetrics().getRequestCount() <= 1) {
+                newConnections.incrementAndGet();
+            }
+        });
+        return client;
+    }
+
+    /**
+     * Get the REST Assured configuration that routes requests through the shared pool
+     *
+     * @return RestAssuredConfig using the pooled HttpClient
+     */
+    public static RestAssuredConfig getRestAssuredConfig() {
+        return restAssuredConfig;
+    }
+
+    public static long getRequestCount() {
+        return requests.get();
+    }
+
+    public static long getNewConnectionCount() {
+        return newConnections.get();
+    }
+
+    /**
+     * Get a printable summary of connection reuse and current pool state
+     *
+     * @return Requests, connections opened, reuse ratio and pool stats
+     */
+    public static String getStatisticsSummary() {
+        long requestCount = requests.get();
+        long opened = newConnections.get();
+        PoolStats stats = connectionManager.getTotalStats();
+        return String.format("Requests: %d%nConnections opened: %d%nConnection reuse: %.1f%%%n"
+                        + "Leased: %d%nAvailable: %d%nPending: %d%nMax: %d%n",
+                requestCount, opened, requestCount == 0 ? 0.0 : (requestCount - opened) * 100.0 / requestCount,
+                stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+}
@@ -1,64 +1,136 @@
 package com.ecom.app.specs;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.ecom.app.constants.Endpoints;
 import com.ecom.app.utils.AllureRestAssuredFilter;
+import com.ecom.app.utils.AttachmentPolicy;
+import com.ecom.app.utils.CassetteFilter;
+import com.ecom.app.utils.LatencySlaFilter;
 
-import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.filter.Filter;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 
 public class RequestSpecificationBuilder {
     private static final Logger log = LogManager.getLogger(RequestSpecificationBuilder.class);
+    private static final int MAX_CACHED_TOKENS = 64;
+
+    // Built specs are only ever merged into new specs by given().spec(), never mutated, so they are shared
+    private static final Map<String, RequestSpecification> authenticatedSpecs = new ConcurrentHashMap<>();
+    private static final Map<String, RequestSpecification> multipartSpecs = new ConcurrentHashMap<>();
 
     static {
         // Set base URI for all requests
-        RestAssured.baseURI = "https://rahulshettyacademy.com/api/ecom";
+        RestAssured.baseURI = Endpoints.BASE_API_URL;
     }
 
+    private static final RequestSpecification defaultRequestSpec = buildDefaultRequestSpec();
+    private static final RequestSpecification loginRequestSpec = buildLoginRequestSpec();
+
     public static RequestSpecification getDefaultRequestSpec() {
+        return defaultRequestSpec;
+    }
+
+    public static RequestSpecification getAuthenticatedRequestSpec(String authToken) {
+        return cached(authenticatedSpecs, authToken, RequestSpecificationBuilder::buildAuthenticatedRequestSpec);
+    }
+
+    public static RequestSpecification getLoginRequestSpec() {
+        return loginRequestSpec;
+    }
+
+    public static RequestSpecification getMultipartRequestSpec(String authToken) {
+        return cached(multipartSpecs, authToken, RequestSpecificationBuilder::buildMultipartRequestSpec);
+    }
+
+    private static RequestSpecification cached(Map<String, RequestSpecification> cache, String authToken,
+            Function<String, RequestSpecification> builder) {
+        if (authToken == null) {
+            return builder.apply(null);
+        }
+        RequestSpecification spec = cache.get(authToken);
+        if (spec != null) {
+            return spec;
+        }
+        // Tokens change on every login; drop stale entries rather than grow without bound
+        if (cache.size() >= MAX_CACHED_TOKENS) {
+            cache.clear();
+        }
+        return cache.computeIfAbsent(authToken, builder);
+    }
+
+    private static List<Filter> allureFilters() {
+        // Off by default: AllureReportUtils already attaches request/response details under the attachment policy
+        return AttachmentPolicy.getInstance().isRestAssuredFilterEnabled()
+                ? List.of(AllureRestAssuredFilter.getInstance()) : List.of();
+    }
+
+    private static List<Filter> cassetteFilters() {
+        CassetteFilter cassette = CassetteFilter.getInstance();
+        return cassette.isEnabled() ? List.of(cassette) : List.of();
+    }
+
+    private static RequestSpecification buildDefaultRequestSpec() {
         log.info("Building default request specification for ecom API");
 
         return new RequestSpecBuilder()
+                .setConfig(ApiConnectionPool.getRestAssuredConfig())
                 .setContentType(ContentType.JSON)
-                .addFilter(AllureRestAssuredFilter.getInstance())
+                .addFilters(allureFilters())
+                .addFilter(LatencySlaFilter.getInstance())
+                .addFilters(cassetteFilters())
                 .log(LogDetail.ALL)
                 .build();
     }
 
-    public static RequestSpecification getAuthenticatedRequestSpec(String authToken) {
+    private static RequestSpecification buildAuthenticatedRequestSpec(String authToken) {
         log.info("Building authenticated request specification for ecom API");
 
         return new RequestSpecBuilder()
+                .setConfig(ApiConnectionPool.getRestAssuredConfig())
                 .setContentType(ContentType.JSON)
                 .addHeader("Authorization", authToken)
                 .addHeader("Accept", "application/json, text/plain, */*")
-                .addFilter(new AllureRestAssured())
+                .addFilters(allureFilters())
+                .addFilter(LatencySlaFilter.getInstance())
+                .addFilters(cassetteFilters())
                 .log(LogDetail.ALL)
                 .build();
     }
 
-    public static RequestSpecification getLoginRequestSpec() {
+    private static RequestSpecification buildLoginRequestSpec() {
         log.info("Building login request specification");
 
         return new RequestSpecBuilder()
+                .setConfig(ApiConnectionPool.getRestAssuredConfig())
                 .setContentType(ContentType.JSON)
-                .addFilter(new AllureRestAssured())
+                .addFilters(allureFilters())
+                .addFilter(LatencySlaFilter.getInstance())
+                .addFilters(cassetteFilters())
                 .log(LogDetail.ALL)
                 .build();
     }
 
-    public static RequestSpecification getMultipartRequestSpec(String authToken) {
+    private static RequestSpecification buildMultipartRequestSpec(String authToken) {
         log.info("Building multipart request specification for file uploads");
 
         return new RequestSpecBuilder()
+                .setConfig(ApiConnectionPool.getRestAssuredConfig())
                 .setContentType(ContentType.MULTIPART)
                 .addHeader("Authorization", authToken)
-                .addFilter(new AllureRestAssured())
+                .addFilters(allureFilters())
+                .addFilter(LatencySlaFilter.getInstance())
+                .addFilters(cassetteFilters())
                 .log(LogDetail.ALL)
                 .build();
     }
@@ -1,11 +1,15 @@
 package com.ecom.app.specs;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hamcrest.Matchers;
 
+import com.ecom.app.Utilities.ConfigurationUtils;
+
 import io.restassured.builder.ResponseSpecBuilder;
 import io.restassured.http.ContentType;
 import io.restassured.specification.ResponseSpecification;
@@ -13,44 +17,100 @@ import io.restassured.specification.ResponseSpecification;
 public class ResponseSpecificationBuilder {
     private static final Logger log = LogManager.getLogger(ResponseSpecificationBuilder.class);
 
+    // Single-call ceiling that catches hung requests; latency budgets are enforced per endpoint by LatencySlaFilter
+    private static final long MAX_RESPONSE_TIME_MS = Long.parseLong(
+            ConfigurationUtils.getInstance().getProperty("api.sla.maxResponseTime", "15000").trim());
+
+    // Built once; specs are only merged into requests by then().spec(), never mutated, so they are shared
+    private static final ResponseSpecification genericResponseSpec = buildGenericResponseSpec();
+    private static final ResponseSpecification genericResponseNoContentSpec = buildGenericResponseNoContentSpec();
+    private static final ResponseSpecification successResponseSpec = buildSuccessResponseSpec();
+    private static final ResponseSpecification createdResponseSpec = buildCreatedResponseSpec();
+    private static final ResponseSpecification loginSuccessSpec = buildLoginSuccessSpec();
+    private static final ResponseSpecification loginFailureSpec = buildLoginFailureSpec();
+    private static final ResponseSpecification orderCreationSuccessSpec = buildOrderCreationSuccessSpec();
+    private static final ResponseSpecification productsListSuccessSpec = buildProductsListSuccessSpec();
+    private static final ResponseSpecification deleteSuccessSpec = buildDeleteSuccessSpec();
+    private static final Map<Integer, ResponseSpecification> statusSpecs = new ConcurrentHashMap<>();
+
     public static ResponseSpecification getGenericResponseSpec() {
+        return genericResponseSpec;
+    }
+
+    public static ResponseSpecification getGenericResponseNoContentSpec() {
+        return genericResponseNoContentSpec;
+    }
+
+    public static ResponseSpecification getSuccessResponseSpec() {
+        return successResponseSpec;
+    }
+
+    public static ResponseSpecification getCreatedResponseSpec() {
+        return createdResponseSpec;
+    }
+
+    public static ResponseSpecification getLoginSuccessSpec() {
+        return loginSuccessSpec;
+    }
+
+    public static ResponseSpecification getLoginFailureSpec() {
+        return loginFailureSpec;
+    }
+
+    public static ResponseSpecification getOrderCreationSuccessSpec() {
+        return orderCreationSuccessSpec;
+    }
+
+    public static ResponseSpecification getProductsListSuccessSpec() {
+        return productsListSuccessSpec;
+    }
+
+    public static ResponseSpecification getDeleteSuccessSpec() {
+        return deleteSuccessSpec;
+    }
+
+    public static ResponseSpecification getResponseSpecWithStatus(int statusCode) {
+        return statusSpecs.computeIfAbsent(statusCode, ResponseSpecificationBuilder::buildResponseSpecWithStatus);
+    }
+
+    private static ResponseSpecification buildGenericResponseSpec() {
         log.info("Building generic response specification for ecom API");
 
         return new ResponseSpecBuilder()
                 .expectContentType(ContentType.JSON)
-                .expectResponseTime(Matchers.lessThan(15000L), TimeUnit.MILLISECONDS)
+                .expectResponseTime(Matchers.lessThan(MAX_RESPONSE_TIME_MS), TimeUnit.MILLISECONDS)
                 .build();
     }
 
-    public static ResponseSpecification getGenericResponseNoContentSpec() {
+    private static ResponseSpecification buildGenericResponseNoContentSpec() {
         log.info("Building generic response specification for non-content responses");
 
         return new ResponseSpecBuilder()
-                .expectResponseTime(Matchers.lessThan(15000L), TimeUnit.MILLISECONDS)
+                .expectResponseTime(Matchers.lessThan(MAX_RESPONSE_TIME_MS), TimeUnit.MILLISECONDS)
                 .build();
     }
 
-    public static ResponseSpecification getSuccessResponseSpec() {
+    private static ResponseSpecification buildSuccessResponseSpec() {
         log.info("Building success response specification");
 
         return new ResponseSpecBuilder()
                 .expectStatusCode(200)
                 .expectContentType(ContentType.JSON)
-                .expectResponseTime(Matchers.lessThan(15000L), TimeUnit.MILLISECONDS)
+                .expectResponseTime(Matchers.lessThan(MAX_RESPONSE_TIME_MS), TimeUnit.MILLISECONDS)
                 .build();
     }
 
-    public static ResponseSpecification getCreatedResponseSpec() {
+    private static ResponseSpecification buildCreatedResponseSpec() {
         log.info("Building created response specification");
 
         return new ResponseSpecBuilder()
                 .expectStatusCode(201)
                 .expectContentType(ContentType.JSON)
-                .expectResponseTime(Matchers.lessThan(15000L), TimeUnit.MILLISECONDS)
+                .expectResponseTime(Matchers.lessThan(MAX_RESPONSE_TIME_MS), TimeUnit.MILLISECONDS)
                 .build();
     }
 
-    public static ResponseSpecification getLoginSuccessSpec() {
+    private static ResponseSpecification buildLoginSuccessSpec() {
         log.info("Building login success response specification");
 
         return new ResponseSpecBuilder()
@@ -59,22 +119,22 @@ public class ResponseSpecificationBuilder {
                 .expectBody("token", Matchers.notNullValue())
                 .expectBody("userId", Matchers.notNullValue())
                 .expectBody("message", Matchers.equalTo("Login Successfully"))
-                .expectResponseTime(Matchers.lessThan(15000L), TimeUnit.MILLISECONDS)
+                .expectResponseTime(Matchers.lessThan(MAX_RESPONSE_TIME_MS), TimeUnit.MILLISECONDS)
                 .build();
     }
 
-    public static ResponseSpecification getLoginFailureSpec() {
+    private static ResponseSpecification buildLoginFailureSpec() {
         log.info("Building login failure response specification");
 
         return new ResponseSpecBuilder()
                 .expectStatusCode(400)
                 .expectContentType(ContentType.JSON)
                 .expectBody("message", Matchers.notNullValue())
-                .expectResponseTime(Matchers.lessThan(15000L), TimeUnit.MILLISECONDS)
+                .expectResponseTime(Matchers.lessThan(MAX_RESPONSE_TIME_MS), TimeUnit.MILLISECONDS)
                 .build();
     }
 
-    public static ResponseSpecification getOrderCreationSuccessSpec() {
+    private static ResponseSpecification buildOrderCreationSuccessSpec() {
         log.info("Building order creation success response specification");
 
         return new ResponseSpecBuilder()
@@ -82,39 +142,39 @@ public class ResponseSpecificationBuilder {
                 .expectContentType(ContentType.JSON)
                 .expectBody("orders", Matchers.notNullValue())
                 .expectBody("message", Matchers.notNullValue())
-                .expectResponseTime(Matchers.lessThan(15000L), TimeUnit.MILLISECONDS)
+                .expectResponseTime(Matchers.lessThan(MAX_RESPONSE_TIME_MS), TimeUnit.MILLISECONDS)
                 .build();
     }
 
-    public static ResponseSpecification getProductsListSuccessSpec() {
+    private static ResponseSpecification buildProductsListSuccessSpec() {
         log.info("Building products list success response specification");
 
         return new ResponseSpecBuilder()
                 .expectStatusCode(200)
                 .expectContentType(ContentType.JSON)
                 .expectBody("data", Matchers.notNullValue())
-                .expectResponseTime(Matchers.lessThan(15000L), TimeUnit.MILLISECONDS)
+                .expectResponseTime(Matchers.lessThan(MAX_RESPONSE_TIME_MS), TimeUnit.MILLISECONDS)
                 .build();
     }
 
-    public static ResponseSpecification getResponseSpecWithStatus(int statusCode) {
+    private static ResponseSpecification buildResponseSpecWithStatus(int statusCode) {
         log.info("Building response specification with status code: {}", statusCode);
 
         return new ResponseSpecBuilder()
                 .expectStatusCode(statusCode)
                 .expectContentType(ContentType.JSON)
-                .expectResponseTime(Matchers.lessThan(15000L), TimeUnit.MILLISECONDS)
+                .expectResponseTime(Matchers.lessThan(MAX_RESPONSE_TIME_MS), TimeUnit.MILLISECONDS)
                 .build();
     }
 
-    public static ResponseSpecification getDeleteSuccessSpec() {
+    private static ResponseSpecification buildDeleteSuccessSpec() {
         log.info("Building delete success response specification");
 
         return new ResponseSpecBuilder()
                 .expectStatusCode(200)
                 .expectContentType(ContentType.JSON)
                 .expectBody("message", Matchers.notNullValue())
-                .expectResponseTime(Matchers.lessThan(15000L), TimeUnit.MILLISECONDS)
+                .expectResponseTime(Matchers.lessThan(MAX_RESPONSE_TIME_MS), TimeUnit.MILLISECONDS)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.ecom.app.specs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+import io.restassured.response.Response;
+
+/**
+ * Immutable set of expectations on an API response: status code, JSON content type, a JSON schema and
+ * individual field checks.
+ *
+ * Everything that can be prepared ahead is prepared when the validator is built: the schema is loaded and
+ * compiled once, and field paths are compiled to JSON pointers. validate() then parses the body once and runs
+ * the schema and every field check over that same tree, collecting all failures into one AssertionError.
+ */
+public final class ResponseValidator {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonSchemaFactory schemaFactory = JsonSchemaFactory.byDefault();
+
+    private final String name;
+    private final int statusCode;
+    private final boolean json;
+    private final JsonSchema schema;
+    private final String schemaResource;
+    private final List<FieldCheck> fieldChecks;
+
+    private ResponseValidator(Builder builder) {
+        this.name = builder.name;
+        this.statusCode = builder.statusCode;
+        this.json = builder.json;
+        this.schemaResource = builder.schemaResource;
+        this.schema = builder.schemaResource == null ? null : compileSchema(builder.schemaResource);
+        this.fieldChecks = Collections.unmodifiableList(new ArrayList<>(builder.fieldChecks));
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Check the response against every expectation
+     *
+     * @return The parsed body, for further assertions without parsing it again; null when nothing needed it
+     * @throws AssertionError Listing every expectation that failed
+     */
+    public JsonNode validate(Response response) {
+        List<String> failures = new ArrayList<>();
+        if (statusCode >= 0 && response.statusCode() != statusCode) {
+            failures.add("expected status " + statusCode + " but was " + response.statusCode());
+        }
+        String contentType = response.contentType();
+        if (json && (contentType == null || !contentType.toLowerCase().contains("json"))) {
+            failures.add("expected JSON content type but was '" + contentType + "'");
+        }
+
+        JsonNode body = null;
+        if (schema != null || !fieldChecks.isEmpty()) {
+            try {
+                body = objectMapper.readTree(response.asByteArray());
+            } catch (IOException e) {
+                failures.add("body is not valid JSON: " + e.getMessage());
+            }
+        }
+        if (body != null) {
+            if (schema != null) {
+                validateSchema(body, failures);
+            }
+            for (FieldCheck check : fieldChecks) {
+                JsonNode value = body.at(check.pointer);
+                if (!check.condition.test(value)) {
+                    failures.add(check.field + " " + check.description + " but was "
+                            + (value.isMissingNode() ? "missing" : value.toString()));
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new AssertionError(name + " validation failed:\n - " + String.join("\n - ", failures));
+        }
+        return body;
+    }
+
+    private void validateSchema(JsonNode body, List<String> failures) {
+        try {
+            ProcessingReport report = schema.validate(body);
+            if (!report.isSuccess()) {
+                for (ProcessingMessage message : report) {
+                    String pointer = message.asJson().path("instance").path("pointer").asText("");
+                    failures.add("schema " + schemaResource + ": " + message.getMessage()
+                            + " at " + (pointer.isEmpty() ? "/" : pointer));
+                }
+            }
+        } catch (ProcessingException e) {
+            failures.add("schema " + schemaResource + " could not be applied: " + e.getMessage());
+        }
+    }
+
+    private static JsonSchema compileSchema(String resource) {
+        try (InputStream in = ResponseValidator.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("JSON schema not found on classpath: " + resource);
+            }
+            return schemaFactory.getJsonSchema(objectMapper.readTree(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JSON schema " + resource, e);
+        } catch (ProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON schema " + resource + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static class FieldCheck {
+        private final String field;
+        private final JsonPointer pointer;
+        private final Predicate<JsonNode> condition;
+        private final String description;
+
+        FieldCheck(String field, Predicate<JsonNode> condition, String description) {
+            this.field = field;
+            this.pointer = JsonPointer.compile("/" + field.replace(".", "/"));
+            this.condition = condition;
+            this.description = description;
+        }
+    }
+
+    public static class Builder {
+        private final String name;
+        private int statusCode = -1;
+        private boolean json;
+        private String schemaResource;
+        private final List<FieldCheck> fieldChecks = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder expectStatusCode(int statusCode) {
+            this.statusCode = statusCode;
+            return this;
+        }
+
+        public Builder expectJson() {
+            this.json = true;
+            return this;
+        }
+
+        /**
+         * @param resource Classpath location of a draft-04 JSON schema, e.g. schemas/login-success.json
+         */
+        public Builder expectSchema(String resource) {
+            this.schemaResource = resource;
+            return this;
+        }
+
+        /**
+         * @param field Dotted path, e.g. "message" or "data.0._id"
+         */
+        public Builder expectEqualTo(String field, String expected) {
+            fieldChecks.add(new FieldCheck(field, value -> value.isValueNode() && Objects.equals(value.asText(), expected),
+                    "expected '" + expected + "'"));
+            return this;
+        }
+
+        public ResponseValidator build() {
+            return new ResponseValidator(this);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecom.app.specs;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared response validators, built once when the class loads. Validators are immutable, so tests on any
+ * thread use the same instances; schemas are compiled here rather than on every assertion.
+ */
+public class ResponseValidators {
+
+    public static final ResponseValidator LOGIN_SUCCESS = ResponseValidator.builder("Login success")
+            .expectStatusCode(200)
+            .expectJson()
+            .expectSchema("schemas/login-success.json")
+            .expectEqualTo("message", "Login Successfully")
+            .build();
+
+    public static final ResponseValidator ORDER_CREATED = ResponseValidator.builder("Order creation")
+            .expectStatusCode(201)
+            .expectJson()
+            .expectSchema("schemas/order-creation.json")
+            .build();
+
+    public static final ResponseValidator PRODUCTS_LIST = ResponseValidator.builder("Products list")
+            .expectStatusCode(200)
+            .expectJson()
+            .expectSchema("schemas/products-list.json")
+            .build();
+
+    public static final ResponseValidator DELETE_SUCCESS = ResponseValidator.builder("Delete success")
+            .expectStatusCode(200)
+            .expectJson()
+            .expectSchema("schemas/error-message.json")
+            .build();
+
+    private static final Map<Integer, ResponseValidator> errorsByStatus = new ConcurrentHashMap<>();
+
+    private ResponseValidators() {
+    }
+
+    /**
+     * JSON error body with a message, e.g. a rejected login; one instance per status code, so data-driven
+     * tests can take the status from the test data row
+     */
+    public static ResponseValidator errorMessage(int statusCode) {
+        return errorsByStatus.computeIfAbsent(statusCode, code -> ResponseValidator.builder("Error " + code)
+                .expectStatusCode(code)
+                .expectJson()
+                .expectSchema("schemas/error-message.json")
+                .build());
+    }
+}
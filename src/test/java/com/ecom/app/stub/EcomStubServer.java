@@ -0,0 +1,439 @@
+package com.ecom.app.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+import com.ecom.app.constants.Endpoints;
+import com.ecom.app.generic.TestAccount;
+import com.ecom.app.generic.TestAccountPool;
+import com.ecom.app.pojo.auth.LoginResponse;
+import com.ecom.app.pojo.common.ErrorResponse;
+import com.ecom.app.pojo.order.OrderDetails;
+import com.ecom.app.pojo.order.OrderHistoryResponse;
+import com.ecom.app.pojo.order.OrderResponse;
+import com.ecom.app.pojo.product.Product;
+import com.ecom.app.pojo.product.ProductsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded, stateful stub of every endpoint in Endpoints, served on localhost with the JDK HTTP server.
+ * Enable it with api.stub.enabled=true: Endpoints.BASE_API_URL then points here and the suites and the
+ * load runner work without network. Latency and failure rate are configurable to exercise timeouts and retries.
+ */
+public class EcomStubServer {
+    private static final Logger log = LogManager.getLogger(EcomStubServer.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String API_PREFIX = "/api/ecom";
+
+    private static EcomStubServer instance;
+
+    private final List<Route> routes = new ArrayList<>();
+    private final EcomStubState state = new EcomStubState();
+    private final int port;
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private final double failureRate;
+    private HttpServer server;
+
+    /**
+     * @param port            Port to listen on
+     * @param latencyMs       Fixed delay added to every response
+     * @param latencyJitterMs Random extra delay between 0 and this value
+     * @param failureRate     Fraction of requests (0..1) answered with 503
+     */
+    public EcomStubServer(int port, long latencyMs, long latencyJitterMs, double failureRate) {
+        this.port = port;
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.failureRate = failureRate;
+
+        route(Endpoints.LOGIN, false, this::login);
+        route(Endpoints.REGISTER, false, this::register);
+        route(Endpoints.GET_ALL_PRODUCTS, true, this::getAllProducts);
+        route(Endpoints.ADD_PRODUCT, true, this::addProduct);
+        route(Endpoints.DELETE_PRODUCT, true, this::deleteProduct);
+        route(Endpoints.ADD_TO_CART, true, this::addToCart);
+        route(Endpoints.DELETE_FROM_CART, true, this::removeFromCart);
+        route(Endpoints.GET_CART_PRODUCTS, true, this::getCartProducts);
+        route(Endpoints.CREATE_ORDER, true, this::createOrder);
+        route(Endpoints.GET_ORDER_DETAILS, true, this::getOrderDetails);
+        route(Endpoints.GET_ORDERS_FOR_CUSTOMER, true, this::getOrdersForCustomer);
+        route(Endpoints.DELETE_ORDER, true, this::deleteOrder);
+        route(Endpoints.GET_USER_PROFILE, true, this::getUserProfile);
+    }
+
+    /**
+     * Start the shared stub when api.stub.enabled is true. Called from the suite and load-test setups,
+     * and safe to call from both.
+     */
+    public static synchronized void startIfEnabled() {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        if (instance != null || !Boolean.parseBoolean(config.getProperty("api.stub.enabled", "false"))) {
+            return;
+        }
+        int port = Integer.parseInt(config.getProperty("api.stub.port", "8089"));
+        if (port <= 0) {
+            // Endpoints.BASE_API_URL is built from the configured port, so the stub cannot pick a free one
+            throw new IllegalArgumentException("api.stub.port must be a fixed port, got: " + port);
+        }
+        instance = new EcomStubServer(
+                port,
+                Long.parseLong(config.getProperty("api.stub.latency", "0")),
+                Long.parseLong(config.getProperty("api.stub.latencyJitter", "0")),
+                Double.parseDouble(config.getProperty("api.stub.failureRate", "0")));
+        for (TestAccount account : TestAccountPool.getInstance().getAccounts()) {
+            instance.state.registerUser(account.getEmail(), account.getPassword(), "Stub", "User");
+        }
+        instance.start();
+    }
+
+    public static synchronized boolean isRunning() {
+        return instance != null;
+    }
+
+    public static synchronized void stopIfRunning() {
+        if (instance != null) {
+            instance.stop();
+            instance = null;
+        }
+    }
+
+    public void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start API stub on port " + port, e);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "ecom-stub-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext(API_PREFIX, this::handle);
+        server.start();
+        log.info("API stub listening on {} (latency {} ms + up to {} ms, failure rate {})",
+                getBaseUrl(), latencyMs, latencyJitterMs, failureRate);
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            log.info("API stub stopped");
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + API_PREFIX;
+    }
+
+    public EcomStubState getState() {
+        return state;
+    }
+
+    private void route(String endpoint, boolean authenticated, Handler handler) {
+        // Endpoints use {name} placeholders; turn them into capturing groups
+        String regex = Pattern.quote(endpoint).replaceAll("\\{\\w+}", "\\\\E([^/]+)\\\\Q");
+        routes.add(new Route(Pattern.compile(regex), authenticated, handler));
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            simulateLatency();
+            String path = exchange.getRequestURI().getPath().substring(API_PREFIX.length());
+
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                send(exchange, 503, error("Service Unavailable (stub failure injection)", 503, path));
+                return;
+            }
+
+            for (Route route : routes) {
+                Matcher matcher = route.pattern.matcher(path);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                String userId = state.userIdForToken(exchange.getRequestHeaders().getFirst("Authorization"));
+                if (route.authenticated && userId == null) {
+                    send(exchange, 401, error("Unauthorized", 401, path));
+                    return;
+                }
+                List<String> params = new ArrayList<>();
+                for (int i = 1; i <= matcher.groupCount(); i++) {
+                    params.add(matcher.group(i));
+                }
+                Reply reply = route.handler.handle(new StubRequest(userId, params, readBody(exchange)));
+                send(exchange, reply.status, reply.body);
+                return;
+            }
+            send(exchange, 404, error("Not Found", 404, path));
+        } catch (MalformedBodyException e) {
+            log.warn("API stub rejected malformed body for {}: {}", exchange.getRequestURI(), e.getMessage());
+            sendError(exchange, 400, "Malformed JSON body");
+        } catch (Exception e) {
+            log.error("API stub failed to handle {}: {}", exchange.getRequestURI(), e.getMessage(), e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            sendError(exchange, 500, "Internal Server Error (stub)");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void simulateLatency() throws InterruptedException {
+        long delay = latencyMs + (latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0);
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    private static JsonNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            return bytes.length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(bytes);
+        } catch (JsonProcessingException e) {
+            throw new MalformedBodyException(e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Reply with an error status unless the status line already went out, in which case the client can
+     * only see the connection close
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) {
+        if (exchange.getResponseCode() != -1) {
+            return;
+        }
+        try {
+            send(exchange, status, error(message, status, exchange.getRequestURI().getPath()));
+        } catch (IOException e) {
+            log.warn("API stub could not send {} for {}: {}", status, exchange.getRequestURI(), e.getMessage());
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static ErrorResponse error(String message, int status, String path) {
+        return new ErrorResponse(message, status, null, Instant.now().toString(), path);
+    }
+
+    private static Reply message(int status, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", message);
+        return new Reply(status, body);
+    }
+
+    private Reply login(StubRequest request) {
+        String email = request.body.path("userEmail").asText("");
+        String password = request.body.path("userPassword").asText("");
+        if (email.isBlank()) {
+            return message(400, "Email is required");
+        }
+        if (password.isBlank()) {
+            return message(400, "Password is required");
+        }
+        EcomStubState.User user = state.findUser(email);
+        if (user == null || !user.getPassword().equals(password)) {
+            return message(400, "Incorrect email or password.");
+        }
+        return new Reply(200, new LoginResponse(state.issueToken(user), user.getId(), "Login Successfully"));
+    }
+
+    private Reply register(StubRequest request) {
+        String email = request.body.path("userEmail").asText("");
+        if (email.isBlank() || request.body.path("userPassword").asText("").isBlank()) {
+            return message(400, "Email and password are required");
+        }
+        EcomStubState.User user = state.registerUser(email, request.body.path("userPassword").asText(),
+                request.body.path("firstName").asText(""), request.body.path("lastName").asText(""));
+        return user == null ? message(400, "User already exisits with this Email Id!") : message(200, "Registered Successfully");
+    }
+
+    private Reply getAllProducts(StubRequest request) {
+        List<Product> products = state.getProducts();
+        return new Reply(200, new ProductsResponse(products, "All Products fetched Successfully", products.size()));
+    }
+
+    private Reply addProduct(StubRequest request) {
+        Product product = state.addProduct(request.body.path("productName").asText("Stub Product"),
+                request.body.path("productCategory").asText("misc"), request.body.path("productSubCategory").asText("misc"),
+                request.body.path("productPrice").asInt(0), request.body.path("productDescription").asText(""));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("productId", product.getId());
+        body.put("message", "Product Added Successfully");
+        return new Reply(201, body);
+    }
+
+    private Reply deleteProduct(StubRequest request) {
+        return state.deleteProduct(request.params.get(0))
+                ? message(200, "Product Deleted Successfully")
+                : message(400, "Product not found");
+    }
+
+    private Reply addToCart(StubRequest request) {
+        Product product = state.getProduct(request.body.path("productId").asText(null));
+        if (product == null) {
+            product = state.getProduct(request.body.path("product").path("_id").asText(null));
+        }
+        if (product == null) {
+            return message(400, "Product not found");
+        }
+        state.addToCart(request.userId, product);
+        return message(200, "Product Added To Cart");
+    }
+
+    private Reply removeFromCart(StubRequest request) {
+        return state.removeFromCart(request.userId, request.params.get(0))
+                ? message(200, "Product Removed from cart")
+                : message(400, "Product not found in cart");
+    }
+
+    private Reply getCartProducts(StubRequest request) {
+        if (!request.params.get(0).equals(request.userId)) {
+            return message(403, "You are not authorize to view this cart");
+        }
+        List<Map<String, Object>> products = new ArrayList<>();
+        for (EcomStubState.CartItem item : state.getCart(request.userId)) {
+            Map<String, Object> product = new LinkedHashMap<>();
+            product.put("_id", item.getCartId());
+            product.put("productId", item.getProductId());
+            products.add(product);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("products", products);
+        body.put("count", products.size());
+        body.put("message", "Cart Data Found");
+        return new Reply(200, body);
+    }
+
+    private Reply createOrder(StubRequest request) {
+        EcomStubState.User user = state.findUserById(request.userId);
+        JsonNode items = request.body.path("orders");
+        if (!items.isArray() || items.size() == 0) {
+            return message(400, "Orders are required");
+        }
+        List<String> orderIds = new ArrayList<>();
+        List<String> productIds = new ArrayList<>();
+        for (JsonNode item : items) {
+            Product product = state.getProduct(item.path("productOrderedId").asText(null));
+            if (product == null) {
+                return message(400, "Product not found");
+            }
+            OrderDetails order = state.createOrder(user, product, item.path("country").asText(""));
+            orderIds.add(order.getId());
+            productIds.add(product.getId());
+        }
+        return new Reply(201, new OrderResponse(orderIds, productIds, "Order Placed Successfully"));
+    }
+
+    private Reply getOrderDetails(StubRequest request) {
+        OrderDetails order = state.getOrder(request.params.get(0));
+        if (order == null || !order.getOrderById().equals(request.userId)) {
+            return message(400, "Order not found");
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("data", order);
+        body.put("message", "Orders fetched for customer Successfully");
+        return new Reply(200, body);
+    }
+
+    private Reply getOrdersForCustomer(StubRequest request) {
+        if (!request.params.get(0).equals(request.userId)) {
+            return message(403, "You are not authorize to view this order");
+        }
+        List<OrderDetails> orders = state.getOrdersForUser(request.userId);
+        return new Reply(200, new OrderHistoryResponse(orders, "Orders fetched for customer Successfully", orders.size()));
+    }
+
+    private Reply deleteOrder(StubRequest request) {
+        return state.deleteOrder(request.userId, request.params.get(0))
+                ? message(200, "Orders Deleted Successfully")
+                : message(400, "Order not found");
+    }
+
+    private Reply getUserProfile(StubRequest request) {
+        EcomStubState.User user = state.findUserById(request.userId);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("_id", user.getId());
+        body.put("firstName", user.getFirstName());
+        body.put("lastName", user.getLastName());
+        body.put("userEmail", user.getEmail());
+        body.put("message", "User profile fetched Successfully");
+        return new Reply(200, body);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Reply handle(StubRequest request);
+    }
+
+    private static class Route {
+        private final Pattern pattern;
+        private final boolean authenticated;
+        private final Handler handler;
+
+        Route(Pattern pattern, boolean authenticated, Handler handler) {
+            this.pattern = pattern;
+            this.authenticated = authenticated;
+            this.handler = handler;
+        }
+    }
+
+    private static class StubRequest {
+        private final String userId;
+        private final List<String> params;
+        private final JsonNode body;
+
+        StubRequest(String userId, List<String> params, JsonNode body) {
+            this.userId = userId;
+            this.params = params;
+            this.body = body;
+        }
+    }
+
+    private static class Reply {
+        private final int status;
+        private final Object body;
+
+        Reply(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Request body that is not valid JSON; answered with 400 rather than 500
+     */
+    private static class MalformedBodyException extends IOException {
+        MalformedBodyException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
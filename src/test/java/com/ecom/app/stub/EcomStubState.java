@@ -0,0 +1,184 @@
+package com.ecom.app.stub;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.ecom.app.pojo.order.OrderDetails;
+import com.ecom.app.pojo.product.Product;
+
+/**
+ * In-memory data behind EcomStubServer: users, tokens, the product catalogue, carts and orders
+ */
+public class EcomStubState {
+    private static final AtomicLong idSequence = new AtomicLong(0x650000000000L);
+
+    private final Map<String, User> usersByEmail = new ConcurrentHashMap<>();
+    private final Map<String, String> userIdsByToken = new ConcurrentHashMap<>();
+    private final Map<String, Product> products = new ConcurrentHashMap<>();
+    private final Map<String, List<CartItem>> cartsByUserId = new ConcurrentHashMap<>();
+    private final Map<String, OrderDetails> orders = new ConcurrentHashMap<>();
+
+    public EcomStubState() {
+        addProduct("ZARA COAT 3", "fashion", "shirts", 31500, "Zara coat for Women and girls");
+        addProduct("ADIDAS ORIGINAL", "fashion", "shoes", 31500, "Adidas shoes for Men");
+        addProduct("IPHONE 13 PRO", "electronics", "mobiles", 231500, "Apple phone");
+    }
+
+    /**
+     * Generate a 24 hex character id like the MongoDB ids of the real API
+     */
+    static String newId() {
+        return String.format("%012x%012x", System.currentTimeMillis() / 1000, idSequence.incrementAndGet());
+    }
+
+    public User registerUser(String email, String password, String firstName, String lastName) {
+        User user = new User(newId(), email, password, firstName, lastName);
+        return usersByEmail.putIfAbsent(email, user) == null ? user : null;
+    }
+
+    public User findUser(String email) {
+        return usersByEmail.get(email);
+    }
+
+    public String issueToken(User user) {
+        String token = "stub." + UUID.randomUUID();
+        userIdsByToken.put(token, user.getId());
+        return token;
+    }
+
+    public String userIdForToken(String token) {
+        return token == null ? null : userIdsByToken.get(token);
+    }
+
+    public User findUserById(String userId) {
+        return usersByEmail.values().stream().filter(user -> user.getId().equals(userId)).findFirst().orElse(null);
+    }
+
+    public Product addProduct(String name, String category, String subCategory, int price, String description) {
+        Product product = new Product(newId(), name, "stub@ecom.local", category, subCategory, price, description,
+                "https://example.invalid/" + name.toLowerCase().replace(' ', '-') + ".jpg", "women", "stub", 0);
+        products.put(product.getId(), product);
+        return product;
+    }
+
+    public List<Product> getProducts() {
+        return products.values().stream()
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .collect(Collectors.toList());
+    }
+
+    public Product getProduct(String productId) {
+        return productId == null ? null : products.get(productId);
+    }
+
+    public boolean deleteProduct(String productId) {
+        return products.remove(productId) != null;
+    }
+
+    public CartItem addToCart(String userId, Product product) {
+        CartItem item = new CartItem(newId(), product.getId());
+        cartsByUserId.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(item);
+        return item;
+    }
+
+    public List<CartItem> getCart(String userId) {
+        return new ArrayList<>(cartsByUserId.getOrDefault(userId, Collections.emptyList()));
+    }
+
+    /**
+     * Remove a cart entry by cart id or product id, matching how the UI and API identify items
+     */
+    public boolean removeFromCart(String userId, String cartId) {
+        List<CartItem> cart = cartsByUserId.getOrDefault(userId, Collections.emptyList());
+        return cart.removeIf(item -> item.getCartId().equals(cartId) || item.getProductId().equals(cartId));
+    }
+
+    public OrderDetails createOrder(User user, Product product, String country) {
+        OrderDetails order = new OrderDetails(newId(), user.getEmail(), user.getId(), product.getId(),
+                product.getProductName(), country, String.valueOf(product.getProductPrice()), 0);
+        orders.put(order.getId(), order);
+        removeFromCart(user.getId(), product.getId());
+        return order;
+    }
+
+    public List<OrderDetails> getOrdersForUser(String userId) {
+        List<OrderDetails> result = new ArrayList<>();
+        for (OrderDetails order : orders.values()) {
+            if (order.getOrderById().equals(userId)) {
+                result.add(order);
+            }
+        }
+        result.sort((a, b) -> a.getId().compareTo(b.getId()));
+        return result;
+    }
+
+    public OrderDetails getOrder(String orderId) {
+        return orderId == null ? null : orders.get(orderId);
+    }
+
+    public boolean deleteOrder(String userId, String orderId) {
+        OrderDetails order = getOrder(orderId);
+        return order != null && order.getOrderById().equals(userId) && orders.remove(orderId) != null;
+    }
+
+    public static class User {
+        private final String id;
+        private final String email;
+        private final String password;
+        private final String firstName;
+        private final String lastName;
+
+        User(String id, String email, String password, String firstName, String lastName) {
+            this.id = id;
+            this.email = email;
+            this.password = password;
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+    }
+
+    public static class CartItem {
+        private final String cartId;
+        private final String productId;
+
+        CartItem(String cartId, String productId) {
+            this.cartId = cartId;
+            this.productId = productId;
+        }
+
+        public String getCartId() {
+            return cartId;
+        }
+
+        public String getProductId() {
+            return productId;
+        }
+    }
+}
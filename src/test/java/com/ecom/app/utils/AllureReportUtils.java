@@ -12,6 +12,7 @@ import io.restassured.response.Response;
  */
 public class AllureReportUtils {
     private static final Logger log = LogManager.getLogger(AllureReportUtils.class);
+    private static final String RECORDED_BY_FILTER = "see the REST Assured request/response attachments";
 
     @Step("Log API test step: {stepDescription}")
     public static void logStep(String stepDescription) {
@@ -19,24 +20,42 @@ public class AllureReportUtils {
         Allure.step(stepDescription);
     }
 
-    @Step("Log API request details")
     public static void logRequest(String endpoint, Object requestBody) {
-        String requestDetails = String.format("Endpoint: %s\nRequest Body: %s", endpoint, requestBody);
-        log.info("API Request - {}", requestDetails);
-        Allure.addAttachment("API Request", "text/plain", requestDetails);
+        logRequest(endpoint, requestBody, !AttachmentPolicy.getInstance().isRestAssuredFilterEnabled());
+    }
+
+    /**
+     * @param includeBody false when the AllureRestAssured filter already attached the request body
+     */
+    @Step("Log API request details")
+    public static void logRequest(String endpoint, Object requestBody, boolean includeBody) {
+        log.info("API Request - Endpoint: {}", endpoint);
+        AttachmentPolicy policy = AttachmentPolicy.getInstance();
+        policy.attach("API Request", "text/plain", () -> new StringBuilder("Endpoint: ").append(endpoint)
+                .append("\nRequest Body: ")
+                .append(includeBody ? policy.limitBody(String.valueOf(requestBody)) : RECORDED_BY_FILTER)
+                .toString());
     }
 
-    @Step("Log API response details")
     public static void logResponse(Response response) {
-        String responseDetails = String.format(
-                "Status Code: %d\nStatus Line: %s\nResponse Time: %d ms\nResponse Body: %s",
-                response.getStatusCode(),
-                response.getStatusLine(),
-                response.getTime(),
-                response.getBody().asString()
-        );
+        logResponse(response, !AttachmentPolicy.getInstance().isRestAssuredFilterEnabled());
+    }
+
+    /**
+     * @param includeBody false when the AllureRestAssured filter already attached the response body
+     */
+    @Step("Log API response details")
+    public static void logResponse(Response response, boolean includeBody) {
         log.info("API Response - Status: {}, Time: {} ms", response.getStatusCode(), response.getTime());
-        Allure.addAttachment("API Response", "application/json", responseDetails);
+        // The body is only read and copied if the policy keeps this attachment
+        AttachmentPolicy policy = AttachmentPolicy.getInstance();
+        policy.attach("API Response", "application/json", () -> new StringBuilder("Status Code: ")
+                .append(response.getStatusCode())
+                .append("\nStatus Line: ").append(response.getStatusLine())
+                .append("\nResponse Time: ").append(response.getTime()).append(" ms")
+                .append("\nResponse Body: ")
+                .append(includeBody ? policy.limitBody(response.getBody().asString()) : RECORDED_BY_FILTER)
+                .toString());
     }
 
     @Step("Log test assertion: {assertion}")
@@ -53,6 +72,12 @@ public class AllureReportUtils {
         Allure.addAttachment("Test Data", "text/plain", testDataDetails);
     }
 
+    @Step("Log report: {reportName}")
+    public static void logHtmlReport(String reportName, String html) {
+        log.info("HTML Report - {}", reportName);
+        Allure.addAttachment(reportName, "text/html", html, ".html");
+    }
+
     @Step("Log error details")
     public static void logError(String errorMessage, Exception exception) {
         String errorDetails = String.format("Error: %s\nException: %s\nStack Trace: %s",
@@ -3,12 +3,10 @@ package com.ecom.app.utils;
 import io.qameta.allure.restassured.AllureRestAssured;
 
 public class AllureRestAssuredFilter {
-    private static AllureRestAssured instance;
+    // Eagerly created: the filter keeps no per-request state, so one instance is safe for all threads
+    private static final AllureRestAssured instance = new AllureRestAssured();
 
     public static AllureRestAssured getInstance() {
-        if (instance == null) {
-            instance = new AllureRestAssured();
-        }
         return instance;
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.ecom.app.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+import com.ecom.app.constants.Endpoints;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Suite-wide latency histogram per API endpoint, keyed by the templated path from Endpoints so every
+ * order id lands in the same /order/get-orders-details/{orderId} histogram. Exported at suite end as
+ * JSON and CSV under api.latency.exportDir for night-to-night comparison, and as an HTML table for Allure.
+ */
+public class ApiLatencyRecorder {
+    private static final Logger log = LogManager.getLogger(ApiLatencyRecorder.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private static final ApiLatencyRecorder instance = new ApiLatencyRecorder();
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Instant startedAt = Instant.now();
+
+    private ApiLatencyRecorder() {
+    }
+
+    public static ApiLatencyRecorder getInstance() {
+        return instance;
+    }
+
+    /**
+     * @param endpoint Templated path, e.g. Endpoints.GET_ORDER_DETAILS
+     * @param micros   Response time in microseconds
+     */
+    public void record(String endpoint, long micros) {
+        histograms.computeIfAbsent(endpoint, e -> new LatencyHistogram()).record(micros);
+    }
+
+    /**
+     * One row per endpoint, sorted by path, with times in milliseconds
+     */
+    public List<Map<String, Object>> getSummary() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        new TreeMap<>(histograms).forEach((endpoint, histogram) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint);
+            row.put("count", histogram.getCount());
+            row.put("meanMs", toMillis(histogram.getMeanMicros()));
+            for (double percentile : PERCENTILES) {
+                row.put("p" + (int) percentile + "Ms", toMillis(histogram.getPercentileMicros(percentile)));
+            }
+            row.put("maxMs", toMillis(histogram.getMaxMicros()));
+            rows.add(row);
+        });
+        return rows;
+    }
+
+    /**
+     * Write api-latency.json and api-latency.csv to api.latency.exportDir
+     *
+     * @return The export directory, or null when nothing was recorded or the files could not be written
+     */
+    public Path export() {
+        if (histograms.isEmpty()) {
+            return null;
+        }
+        Path dir = Paths.get(ConfigurationUtils.getInstance().getProperty("api.latency.exportDir", "target/api-latency"));
+        List<Map<String, Object>> rows = getSummary();
+        try {
+            Files.createDirectories(dir);
+
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("startedAt", startedAt.toString());
+            json.put("finishedAt", Instant.now().toString());
+            json.put("baseUrl", Endpoints.BASE_API_URL);
+            json.put("endpoints", rows);
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(dir.resolve("api-latency.json").toFile(), json);
+
+            StringBuilder csv = new StringBuilder(String.join(",", rows.get(0).keySet())).append('\n');
+            for (Map<String, Object> row : rows) {
+                List<String> values = new ArrayList<>();
+                row.values().forEach(value -> values.add(String.valueOf(value)));
+                csv.append(String.join(",", values)).append('\n');
+            }
+            Files.write(dir.resolve("api-latency.csv"), csv.toString().getBytes(StandardCharsets.UTF_8));
+
+            log.info("Exported latency histograms for {} endpoints to {}", rows.size(), dir);
+            return dir;
+        } catch (IOException e) {
+            log.error("Could not export API latency histograms to {}: {}", dir, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * HTML table of the summary for the Allure report
+     */
+    public String toHtml() {
+        List<Map<String, Object>> rows = getSummary();
+        StringBuilder html = new StringBuilder("<html><body><h3>API latency by endpoint (ms)</h3>")
+                .append("<table border=\"1\" cellpadding=\"4\" style=\"border-collapse:collapse\"><tr>");
+        if (!rows.isEmpty()) {
+            rows.get(0).keySet().forEach(column -> html.append("<th>").append(column).append("</th>"));
+        }
+        html.append("</tr>");
+        for (Map<String, Object> row : rows) {
+            html.append("<tr>");
+            row.values().forEach(value -> html.append("<td>").append(escape(String.valueOf(value))).append("</td>"));
+            html.append("</tr>");
+        }
+        return html.append("</table></body></html>").toString();
+    }
+
+    private static double toMillis(double micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
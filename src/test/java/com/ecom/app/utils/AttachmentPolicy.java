@@ -0,0 +1,173 @@
+package com.ecom.app.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+
+import io.qameta.allure.Allure;
+
+/**
+ * Decides when API request/response details become Allure attachments and how large they may be.
+ *
+ * In always mode details are attached as they happen. In on-failure and sampled modes they are held per
+ * test as suppliers, so bodies are only read and formatted if the test fails (or, when sampled, if the
+ * test is picked), and are dropped otherwise. Bodies over api.attachments.maxBodySize characters are cut
+ * short, or with overflow=spill written in full to api.attachments.spillDir and referenced by path.
+ */
+public class AttachmentPolicy {
+    private static final Logger log = LogManager.getLogger(AttachmentPolicy.class);
+    private static final int MAX_PENDING_PER_TEST = 100;
+    private static final int MAX_PENDING_TESTS = 256;
+
+    public enum Mode {
+        ALWAYS, ON_FAILURE, SAMPLED
+    }
+
+    private static final AttachmentPolicy instance = new AttachmentPolicy();
+
+    private final Mode mode;
+    private final double sampleRate;
+    private final int maxBodySize;
+    private final boolean spill;
+    private final Path spillDir;
+    private final boolean restAssuredFilterEnabled;
+    private final AtomicLong spillSequence = new AtomicLong();
+    private final Map<String, Deque<PendingAttachment>> pending = new ConcurrentHashMap<>();
+
+    private AttachmentPolicy() {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        this.mode = Mode.valueOf(config.getProperty("api.attachments.mode", "on-failure").trim()
+                .toUpperCase().replace('-', '_'));
+        this.sampleRate = Double.parseDouble(config.getProperty("api.attachments.sampleRate", "0.1").trim());
+        this.maxBodySize = Integer.parseInt(config.getProperty("api.attachments.maxBodySize", "16384").trim());
+        this.spill = "spill".equalsIgnoreCase(config.getProperty("api.attachments.overflow", "truncate").trim());
+        this.spillDir = Paths.get(config.getProperty("api.attachments.spillDir", "target/api-bodies"));
+        this.restAssuredFilterEnabled = Boolean.parseBoolean(
+                config.getProperty("api.attachments.restAssuredFilter", "false").trim());
+    }
+
+    public static AttachmentPolicy getInstance() {
+        return instance;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Whether the AllureRestAssured filter is on the request chain. It records full request and response
+     * bodies itself, so logRequest/logResponse then leave bodies out rather than attach them twice.
+     */
+    public boolean isRestAssuredFilterEnabled() {
+        return restAssuredFilterEnabled;
+    }
+
+    /**
+     * Attach now, or hold until the running test finishes, depending on the mode
+     *
+     * @param name    Attachment name
+     * @param type    MIME type
+     * @param content Builds the attachment text; only called if the attachment is kept
+     */
+    public void attach(String name, String type, Supplier<String> content) {
+        if (mode == Mode.ALWAYS) {
+            Allure.addAttachment(name, type, content.get());
+            return;
+        }
+        Optional<String> testCase = Allure.getLifecycle().getCurrentTestCase();
+        if (!testCase.isPresent()) {
+            // Suite setup, teardown and load virtual users (whose threads do not inherit the test's Allure
+            // context, see LoadRunner) have no test to fail, so there is nothing to report against
+            return;
+        }
+        // Only TestListener releases held attachments; without it (e.g. a class run on its own) don't grow forever
+        if (pending.size() >= MAX_PENDING_TESTS && !pending.containsKey(testCase.get())) {
+            pending.clear();
+        }
+        Deque<PendingAttachment> queue = pending.computeIfAbsent(testCase.get(), k -> new ArrayDeque<>());
+        synchronized (queue) {
+            if (queue.size() >= MAX_PENDING_PER_TEST) {
+                queue.pollFirst();
+            }
+            queue.addLast(new PendingAttachment(name, type, content));
+        }
+    }
+
+    /**
+     * Write or drop the attachments held for the running test. Called on the test thread once the
+     * outcome is known but before Allure closes the test.
+     *
+     * @param failed Whether the test failed
+     */
+    public void testFinished(boolean failed) {
+        Optional<String> testCase = Allure.getLifecycle().getCurrentTestCase();
+        if (!testCase.isPresent()) {
+            return;
+        }
+        Deque<PendingAttachment> queue = pending.remove(testCase.get());
+        if (queue == null) {
+            return;
+        }
+        boolean keep = failed || (mode == Mode.SAMPLED && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        if (!keep) {
+            return;
+        }
+        List<PendingAttachment> attachments;
+        synchronized (queue) {
+            attachments = new ArrayList<>(queue);
+        }
+        for (PendingAttachment attachment : attachments) {
+            Allure.addAttachment(attachment.name, attachment.type, attachment.content.get());
+        }
+    }
+
+    /**
+     * Cap a body at api.attachments.maxBodySize characters, spilling the full text to disk if configured
+     */
+    public String limitBody(String body) {
+        if (body == null || body.length() <= maxBodySize) {
+            return body;
+        }
+        String head = body.substring(0, maxBodySize);
+        if (spill) {
+            Path file = spillDir.resolve("body-" + System.currentTimeMillis() + "-" + spillSequence.incrementAndGet() + ".txt");
+            try {
+                Files.createDirectories(spillDir);
+                Files.write(file, body.getBytes(StandardCharsets.UTF_8));
+                return head + "\n... [" + body.length() + " characters, full body in " + file.toAbsolutePath() + "]";
+            } catch (IOException e) {
+                log.warn("Could not spill response body to {}: {}", file, e.getMessage());
+            }
+        }
+        return head + "\n... [truncated, " + body.length() + " characters in total]";
+    }
+
+    private static class PendingAttachment {
+        private final String name;
+        private final String type;
+        private final Supplier<String> content;
+
+        PendingAttachment(String name, String type, Supplier<String> content) {
+            this.name = name;
+            this.type = type;
+            this.content = content;
+        }
+    }
+}
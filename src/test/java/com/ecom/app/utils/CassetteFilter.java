@@ -0,0 +1,431 @@
+package com.ecom.app.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Record/replay layer on the REST Assured filter chain. In record mode real exchanges are saved to a
+ * gzipped JSON cassette; in replay mode they are served back without touching the network.
+ *
+ * Requests are matched on method, path and query, a SHA-256 of the body and the headers listed in
+ * api.cassette.matchHeaders. Interactions are scoped to the running TestNG method so parallel tests
+ * replay deterministically; repeated identical requests replay in recorded order.
+ *
+ * Cassettes are written without credentials: values of the JSON fields in api.cassette.redactFields are
+ * replaced wherever they occur in a saved body, path or match key by a stable placeholder, and the headers in
+ * api.cassette.redactHeaders are masked. A replayed login therefore hands out placeholders, and requests
+ * built from them still match what was recorded. Request fields in api.cassette.redactRequestFields (the
+ * login email and password) are masked before the request body is hashed into the match key, and so are
+ * data-provider parameters with those names in the test scope, so neither can be recovered offline.
+ */
+public class CassetteFilter implements OrderedFilter {
+    private static final Logger log = LogManager.getLogger(CassetteFilter.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String SUITE_SCOPE = "suite";
+    private static final String REDACTED = "redacted";
+
+    public enum Mode {
+        /** Pass through */
+        OFF,
+        /** Send real requests and save them */
+        RECORD,
+        /** Serve from the cassette only; unmatched requests fail */
+        REPLAY,
+        /** Replay when matched, otherwise send and record */
+        AUTO
+    }
+
+    private static final CassetteFilter instance = new CassetteFilter();
+
+    private final Mode mode;
+    private final Path cassetteFile;
+    private final boolean replayTiming;
+    private final List<String> matchHeaders;
+    private final List<String> redactFields;
+    private final List<String> redactHeaders;
+    private final List<String> redactRequestFields;
+    private final List<Interaction> loaded = new ArrayList<>();
+    private final Map<String, Deque<Interaction>> recorded = new ConcurrentHashMap<>();
+    private final List<Interaction> newInteractions = Collections.synchronizedList(new ArrayList<>());
+
+    private CassetteFilter() {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        this.mode = Mode.valueOf(config.getProperty("api.cassette.mode", "off").trim().toUpperCase());
+        this.cassetteFile = Paths.get(config.getProperty("api.cassette.dir", "target/cassettes"),
+                config.getProperty("api.cassette.name", "api") + ".json.gz");
+        this.replayTiming = Boolean.parseBoolean(config.getProperty("api.cassette.replayTiming", "false"));
+        this.matchHeaders = listProperty(config, "api.cassette.matchHeaders", "");
+        this.redactFields = listProperty(config, "api.cassette.redactFields", "token,userId");
+        this.redactHeaders = listProperty(config, "api.cassette.redactHeaders", "Set-Cookie,Authorization");
+        this.redactRequestFields = listProperty(config, "api.cassette.redactRequestFields", "userEmail,userPassword");
+
+        if (mode == Mode.REPLAY || mode == Mode.AUTO) {
+            load();
+        }
+        if (mode == Mode.RECORD || mode == Mode.AUTO) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::save, "cassette-writer"));
+        }
+    }
+
+    public static CassetteFilter getInstance() {
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.OFF;
+    }
+
+    /**
+     * Whether responses may come from the cassette instead of the live API, so tokens and ids in them
+     * may be stale
+     */
+    public boolean mayReplay() {
+        return mode == Mode.REPLAY || mode == Mode.AUTO;
+    }
+
+    @Override
+    public int getOrder() {
+        // Innermost filter, so Allure and logging filters still see replayed exchanges
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+        if (mode == Mode.OFF) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        String scope = currentScope();
+        String key = matchKey(requestSpec);
+
+        if (mode == Mode.REPLAY || mode == Mode.AUTO) {
+            Interaction interaction = nextRecorded(scope, key);
+            if (interaction != null) {
+                return replay(interaction);
+            }
+            if (mode == Mode.REPLAY) {
+                throw new AssertionError("No recorded interaction in " + cassetteFile + " for "
+                        + requestSpec.getMethod() + " " + pathOf(requestSpec) + " (scope " + scope + ")");
+            }
+        }
+
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        newInteractions.add(Interaction.of(scope, key, requestSpec, response, (System.nanoTime() - start) / 1_000_000L));
+        return response;
+    }
+
+    /**
+     * Write recorded interactions to the cassette. Also runs on JVM shutdown.
+     */
+    public synchronized void save() {
+        if (newInteractions.isEmpty()) {
+            return;
+        }
+        List<Interaction> all = new ArrayList<>();
+        if (mode == Mode.AUTO) {
+            all.addAll(loaded);
+        }
+        synchronized (newInteractions) {
+            all.addAll(redact(newInteractions));
+            newInteractions.clear();
+        }
+        try {
+            Files.createDirectories(cassetteFile.getParent());
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(cassetteFile))) {
+                objectMapper.writeValue(out, all);
+            }
+            log.info("Saved {} interactions to cassette {}", all.size(), cassetteFile);
+        } catch (IOException e) {
+            log.error("Could not write cassette {}: {}", cassetteFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Copies of the interactions with every credential replaced. Secrets are collected from all interactions
+     * first, because a user id returned by login shows up in the paths of later requests.
+     */
+    private List<Interaction> redact(List<Interaction> interactions) {
+        Map<String, String> placeholders = new LinkedHashMap<>();
+        for (Interaction interaction : interactions) {
+            collectSecrets(interaction.body, placeholders);
+        }
+        List<Interaction> redacted = new ArrayList<>(interactions.size());
+        for (Interaction interaction : interactions) {
+            Interaction copy = interaction.copy();
+            copy.body = replaceSecrets(copy.body, placeholders);
+            copy.path = replaceSecrets(copy.path, placeholders);
+            copy.key = replaceSecrets(copy.key, placeholders);
+            copy.headers.replaceAll((name, value) -> redactHeaders.stream().anyMatch(name::equalsIgnoreCase)
+                    ? REDACTED : replaceSecrets(value, placeholders));
+            redacted.add(copy);
+        }
+        return redacted;
+    }
+
+    private void collectSecrets(String body, Map<String, String> placeholders) {
+        if (body == null || body.isEmpty()) {
+            return;
+        }
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            // Not JSON; nothing to collect
+            return;
+        }
+        for (String field : redactFields) {
+            for (JsonNode value : root.findValues(field)) {
+                String secret = value.isValueNode() ? value.asText() : "";
+                if (!secret.isEmpty() && !secret.startsWith(REDACTED)) {
+                    placeholders.putIfAbsent(secret, REDACTED + "-" + field + "-" + sha256(secret));
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace each secret and its match-key hash by the placeholder and the placeholder's hash
+     */
+    private static String replaceSecrets(String text, Map<String, String> placeholders) {
+        if (text == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+            text = text.replace(entry.getKey(), entry.getValue())
+                    .replace(sha256(entry.getKey()), sha256(entry.getValue()));
+        }
+        return text;
+    }
+
+    private static List<String> listProperty(ConfigurationUtils config, String key, String defaultValue) {
+        return Arrays.stream(config.getProperty(key, defaultValue).split(","))
+                .map(String::trim).filter(value -> !value.isEmpty()).collect(Collectors.toList());
+    }
+
+    private void load() {
+        if (!Files.exists(cassetteFile)) {
+            log.warn("Cassette {} not found; nothing to replay", cassetteFile);
+            return;
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(cassetteFile))) {
+            List<Interaction> interactions = objectMapper.readValue(in, new TypeReference<List<Interaction>>() {
+            });
+            loaded.addAll(interactions);
+            for (Interaction interaction : interactions) {
+                recorded.computeIfAbsent(interaction.scope + "|" + interaction.key, k -> new ConcurrentLinkedDeque<>())
+                        .add(interaction);
+            }
+            log.info("Loaded {} interactions from cassette {}", interactions.size(), cassetteFile);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read cassette " + cassetteFile, e);
+        }
+    }
+
+    private Interaction nextRecorded(String scope, String key) {
+        Interaction interaction = poll(scope + "|" + key);
+        if (interaction == null && !SUITE_SCOPE.equals(scope)) {
+            interaction = poll(SUITE_SCOPE + "|" + key);
+        }
+        return interaction;
+    }
+
+    private Interaction poll(String queueKey) {
+        Deque<Interaction> queue = recorded.get(queueKey);
+        if (queue == null) {
+            return null;
+        }
+        // The last interaction for a key keeps answering once the recorded sequence is used up
+        return queue.size() > 1 ? queue.pollFirst() : queue.peekFirst();
+    }
+
+    private Response replay(Interaction interaction) {
+        if (replayTiming && interaction.durationMs > 0) {
+            try {
+                Thread.sleep(interaction.durationMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Header> headers = new ArrayList<>();
+        interaction.headers.forEach((name, value) -> headers.add(new Header(name, value)));
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(interaction.status)
+                .setStatusLine(interaction.statusLine)
+                .setHeaders(new Headers(headers))
+                .setBody(interaction.body.getBytes(StandardCharsets.UTF_8));
+        if (interaction.contentType != null) {
+            builder.setContentType(interaction.contentType);
+        }
+        Response response = builder.build();
+        // Response-time expectations read the value REST Assured's TimingFilter would have stored
+        ((RestAssuredResponseImpl) response).getGroovyResponse().setFilterContextProperties(
+                Map.of(TimingFilter.RESPONSE_TIME_MILLISECONDS, replayTiming ? interaction.durationMs : 0L));
+        return response;
+    }
+
+    private String matchKey(FilterableRequestSpecification requestSpec) {
+        String body = requestSpec.getBody() == null ? "" : String.valueOf((Object) requestSpec.getBody());
+        StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ').append(pathOf(requestSpec))
+                .append(' ').append(sha256(maskRequestFields(body)));
+        for (String header : matchHeaders) {
+            key.append(' ').append(header).append('=').append(sha256(String.valueOf(requestSpec.getHeaders().getValue(header))));
+        }
+        return key.toString();
+    }
+
+    private static String pathOf(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+    }
+
+    /**
+     * Request body with the values of redactRequestFields masked, so a hash of it reveals nothing about them.
+     * Bodies that are not JSON objects are returned as they are.
+     */
+    private String maskRequestFields(String body) {
+        if (body.isEmpty() || redactRequestFields.isEmpty()) {
+            return body;
+        }
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            return body;
+        }
+        if (root == null || !root.isContainerNode()) {
+            return body;
+        }
+        for (String field : redactRequestFields) {
+            for (JsonNode parent : root.findParents(field)) {
+                ((ObjectNode) parent).put(field, REDACTED);
+            }
+        }
+        return root.toString();
+    }
+
+    private String currentScope() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null || result.getMethod() == null) {
+            return SUITE_SCOPE;
+        }
+        Object[] parameters = result.getParameters();
+        Object[] masked = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            masked[i] = parameters[i] instanceof Map ? maskParameters((Map<?, ?>) parameters[i]) : parameters[i];
+        }
+        return result.getMethod().getQualifiedName() + Arrays.toString(masked);
+    }
+
+    /**
+     * Data-provider row with credential columns masked, e.g. the invalid logins of _01_Login_Tests.test_03
+     */
+    private Map<Object, Object> maskParameters(Map<?, ?> row) {
+        Map<Object, Object> masked = new LinkedHashMap<>();
+        row.forEach((name, value) -> masked.put(name, redactRequestFields.contains(String.valueOf(name)) ? REDACTED : value));
+        return masked;
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * One recorded request/response pair as stored in the cassette
+     */
+    public static class Interaction {
+        public String scope;
+        public String key;
+        public String method;
+        public String path;
+        public int status;
+        public String statusLine;
+        public String contentType;
+        public Map<String, String> headers = new LinkedHashMap<>();
+        public String body;
+        public long durationMs;
+
+        static Interaction of(String scope, String key, FilterableRequestSpecification requestSpec, Response response,
+                long durationMs) {
+            Interaction interaction = new Interaction();
+            interaction.scope = scope;
+            interaction.key = key;
+            interaction.method = requestSpec.getMethod();
+            interaction.path = pathOf(requestSpec);
+            interaction.status = response.getStatusCode();
+            interaction.statusLine = response.getStatusLine();
+            interaction.contentType = response.getContentType();
+            response.getHeaders().forEach(header -> interaction.headers.put(header.getName(), header.getValue()));
+            interaction.body = response.getBody().asString();
+            interaction.durationMs = durationMs;
+            return interaction;
+        }
+
+        Interaction copy() {
+            Interaction copy = new Interaction();
+            copy.scope = scope;
+            copy.key = key;
+            copy.method = method;
+            copy.path = path;
+            copy.status = status;
+            copy.statusLine = statusLine;
+            copy.contentType = contentType;
+            copy.headers.putAll(headers);
+            copy.body = body;
+            copy.durationMs = durationMs;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.ecom.app.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.restassured.response.Response;
+
+/**
+ * Reads fields out of a JSON object response in one forward pass with Jackson's JsonParser.
+ *
+ * response.jsonPath() turns the whole body into a Groovy map graph before the first lookup, which for an
+ * account with thousands of orders is many times the size of the body itself. These readers keep only what
+ * was asked for: a top-level value, one field of each array element, or one element bound to a POJO at a
+ * time. Everything else is skipped token by token without being materialized.
+ */
+public class JsonStreamReader {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private JsonStreamReader() {
+    }
+
+    /**
+     * Top-level scalar field as text, e.g. "message"
+     *
+     * @return Field text, or null when the field is missing, null or not a scalar
+     */
+    public static String getString(Response response, String field) {
+        try (JsonParser parser = open(response)) {
+            if (!moveToField(parser, field)) {
+                return null;
+            }
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL || token.isStructStart()) {
+                return null;
+            }
+            return parser.getValueAsString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read '" + field + "' from response", e);
+        }
+    }
+
+    /**
+     * Bind each element of a top-level array to the given type and hand it over before reading the next,
+     * so only one element is held at a time
+     *
+     * @param arrayField Top-level array field, e.g. "data"
+     * @param type       Element type, e.g. OrderDetails.class; unknown properties are ignored
+     * @param consumer   Called once per element, in order
+     * @return Number of elements read; 0 when the field is missing or not an array
+     */
+    public static <T> int forEachElement(Response response, String arrayField, Class<T> type,
+            Consumer<? super T> consumer) {
+        try (JsonParser parser = open(response)) {
+            if (!moveToArray(parser, arrayField)) {
+                return 0;
+            }
+            int count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                consumer.accept(objectMapper.readValue(parser, type));
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read '" + arrayField + "' elements from response", e);
+        }
+    }
+
+    /**
+     * One field of every object in a top-level array, e.g. the "_id" of each order in "data"
+     *
+     * @return Field values in array order, skipping elements without the field; empty when the array is missing
+     */
+    public static List<String> collectField(Response response, String arrayField, String field) {
+        List<String> values = new ArrayList<>();
+        try (JsonParser parser = open(response)) {
+            if (!moveToArray(parser, arrayField)) {
+                return values;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    boolean wanted = field.equals(parser.currentName());
+                    JsonToken value = parser.nextToken();
+                    if (wanted && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                        values.add(parser.getValueAsString());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            return values;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read '" + arrayField + "." + field + "' from response", e);
+        }
+    }
+
+    /**
+     * Number of elements in a top-level array, without reading any of them into objects
+     *
+     * @return Element count; 0 when the field is missing or not an array
+     */
+    public static int countElements(Response response, String arrayField) {
+        try (JsonParser parser = open(response)) {
+            if (!moveToArray(parser, arrayField)) {
+                return 0;
+            }
+            int count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                parser.skipChildren();
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not count '" + arrayField + "' elements in response", e);
+        }
+    }
+
+    private static JsonParser open(Response response) throws IOException {
+        InputStream body = response.asInputStream();
+        return objectMapper.getFactory().createParser(body);
+    }
+
+    /**
+     * Advance to the name of a top-level field, skipping the values of the fields before it
+     */
+    private static boolean moveToField(JsonParser parser, String field) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (field.equals(parser.currentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean moveToArray(JsonParser parser, String arrayField) throws IOException {
+        return moveToField(parser, arrayField) && parser.nextToken() == JsonToken.START_ARRAY;
+    }
+}
@@ -0,0 +1,81 @@
+package com.ecom.app.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear latency histogram in microseconds. Values below 64 us are exact, larger values
+ * fall into buckets of about 3% width, so percentiles stay accurate from sub-millisecond to minutes
+ * with a fixed ~10 KB footprint.
+ */
+public class LatencyHistogram {
+    private static final int LINEAR_BUCKETS = 64;
+    private static final int SUB_BUCKETS = 32;
+    private static final int MAX_EXPONENT = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(LINEAR_BUCKETS + (MAX_EXPONENT - 5) * SUB_BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        buckets.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        totalMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    public double getMeanMicros() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) totalMicros.get() / n;
+    }
+
+    /**
+     * Get the latency at a percentile, reported as the upper bound of its bucket
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Latency in microseconds
+     */
+    public long getPercentileMicros(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min(upperBoundOf(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+        long mantissa = Math.min(value >> (exponent - 5), 2L * SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - 6) * SUB_BUCKETS + (int) (mantissa - SUB_BUCKETS);
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 6;
+        long mantissa = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << (exponent - 5)) - 1;
+    }
+}
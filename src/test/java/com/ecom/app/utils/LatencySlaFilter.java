@@ -0,0 +1,319 @@
+package com.ecom.app.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+import com.ecom.app.constants.Endpoints;
+
+import io.qameta.allure.Allure;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Per-endpoint latency budgets checked as p95/p99 over a rolling window of recent calls.
+ *
+ * Calls are keyed by the templated path from Endpoints, so /order/get-orders-details/{orderId} is one
+ * endpoint whatever the id. Budgets come from api.sla.p95/api.sla.p99 and can be overridden per endpoint
+ * with the Endpoints constant name, e.g. api.sla.GET_ALL_PRODUCTS.p95. A breach never fails the request
+ * that exposed it; it is logged, attached to the running test and listed in the suite report.
+ */
+public class LatencySlaFilter implements OrderedFilter {
+    private static final Logger log = LogManager.getLogger(LatencySlaFilter.class);
+    private static final Map<String, String> endpointNames = endpointNamesByPath();
+
+    private static final LatencySlaFilter instance = new LatencySlaFilter();
+
+    private final int windowSize;
+    private final int minSamples;
+    private final boolean failOnBreach;
+    private final Map<String, EndpointWindow> windows = new ConcurrentHashMap<>();
+    private final List<Breach> breaches = Collections.synchronizedList(new ArrayList<>());
+
+    private LatencySlaFilter() {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        this.windowSize = Integer.parseInt(config.getProperty("api.sla.window", "50").trim());
+        this.minSamples = Integer.parseInt(config.getProperty("api.sla.minSamples", "5").trim());
+        this.failOnBreach = Boolean.parseBoolean(config.getProperty("api.sla.failOnBreach", "false").trim());
+    }
+
+    public static LatencySlaFilter getInstance() {
+        return instance;
+    }
+
+    @Override
+    public int getOrder() {
+        // Just outside the cassette filter, so replayed exchanges are timed as replayed
+        return Integer.MAX_VALUE - 1;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        // Timed here rather than read from response.getTime(), which only has millisecond resolution
+        record(requestSpec.getUserDefinedPath(), TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        return response;
+    }
+
+    /**
+     * Record one call, also into the suite-wide ApiLatencyRecorder, and check the endpoint's budgets once
+     * the window holds enough samples
+     *
+     * @param endpoint Templated path, e.g. Endpoints.GET_ORDER_DETAILS
+     * @param micros   Response time in microseconds; the histograms keep it as is, budgets are checked in
+     *                 milliseconds
+     */
+    public void record(String endpoint, long micros) {
+        ApiLatencyRecorder.getInstance().record(endpoint, micros);
+        EndpointWindow window = windows.computeIfAbsent(endpoint, e -> new EndpointWindow(e, windowSize));
+        window.add(TimeUnit.MICROSECONDS.toMillis(micros));
+        if (window.getTotalCount() >= minSamples) {
+            check(window, evaluate(window));
+        }
+    }
+
+    /**
+     * Evaluate an endpoint against its budgets using whatever samples the window currently holds
+     *
+     * @param endpoint Templated path, e.g. Endpoints.LOGIN
+     * @return Observed percentiles and budgets; within budget when nothing was recorded
+     */
+    public SlaResult evaluate(String endpoint) {
+        EndpointWindow window = windows.get(endpoint);
+        return window == null ? new SlaResult(endpoint, 0, 0, 0, budgetFor(endpoint, "p95"), budgetFor(endpoint, "p99"))
+                : evaluate(window);
+    }
+
+    public List<Breach> getBreaches() {
+        synchronized (breaches) {
+            return new ArrayList<>(breaches);
+        }
+    }
+
+    public boolean isFailOnBreach() {
+        return failOnBreach;
+    }
+
+    /**
+     * Current rolling p95/p99 of every endpoint seen, followed by the breaches raised during the run
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder(String.format("%-45s %8s %8s %8s %8s %8s %s%n",
+                "Endpoint", "Calls", "p95", "p95 SLA", "p99", "p99 SLA", "Status"));
+        for (EndpointWindow window : new TreeMap<>(windows).values()) {
+            SlaResult result = evaluate(window);
+            report.append(String.format("%-45s %8d %8d %8d %8d %8d %s%n", window.endpoint, window.getTotalCount(),
+                    result.getP95Millis(), result.getP95Budget(), result.getP99Millis(), result.getP99Budget(),
+                    result.isWithinBudget() ? "OK" : "BREACHED"));
+        }
+        List<Breach> raised = getBreaches();
+        report.append(String.format("%nBreaches: %d%n", raised.size()));
+        raised.forEach(breach -> report.append(breach).append(System.lineSeparator()));
+        return report.toString();
+    }
+
+    private SlaResult evaluate(EndpointWindow window) {
+        long[] samples = window.snapshot();
+        Arrays.sort(samples);
+        return new SlaResult(window.endpoint, samples.length, percentile(samples, 95), percentile(samples, 99),
+                budgetFor(window.endpoint, "p95"), budgetFor(window.endpoint, "p99"));
+    }
+
+    private void check(EndpointWindow window, SlaResult result) {
+        boolean p95Breached = result.getP95Millis() > result.getP95Budget();
+        boolean p99Breached = result.getP99Millis() > result.getP99Budget();
+        // Report when an endpoint goes over budget, not again for every call while it stays there
+        if (window.updateState(p95Breached, p99Breached)) {
+            Breach breach = new Breach(result, currentTestName());
+            breaches.add(breach);
+            log.warn("Latency SLA breach: {}", breach);
+            if (Allure.getLifecycle().getCurrentTestCase().isPresent()) {
+                Allure.addAttachment("Latency SLA breach", "text/plain", breach.toString());
+            }
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static long budgetFor(String endpoint, String percentile) {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        String fallback = config.getProperty("api.sla." + percentile, "p95".equals(percentile) ? "3000" : "5000");
+        String name = endpointNames.get(endpoint);
+        String value = name == null ? fallback : config.getProperty("api.sla." + name + "." + percentile, fallback);
+        return Long.parseLong(value.trim());
+    }
+
+    private static Map<String, String> endpointNamesByPath() {
+        Map<String, String> names = new HashMap<>();
+        for (Field field : Endpoints.class.getDeclaredFields()) {
+            if (Modifier.isPublic(field.getModifiers()) && Modifier.isStatic(field.getModifiers())
+                    && field.getType() == String.class) {
+                try {
+                    String path = (String) field.get(null);
+                    if (path.startsWith("/")) {
+                        names.put(path, field.getName());
+                    }
+                } catch (IllegalAccessException e) {
+                    log.debug("Skipping endpoint constant {}", field.getName());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static String currentTestName() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result == null || result.getMethod() == null ? "suite" : result.getMethod().getQualifiedName();
+    }
+
+    /**
+     * Ring buffer of the most recent response times for one endpoint
+     */
+    private static class EndpointWindow {
+        private final String endpoint;
+        private final long[] samples;
+        private int next;
+        private int size;
+        private long totalCount;
+        private boolean p95Breached;
+        private boolean p99Breached;
+
+        EndpointWindow(String endpoint, int windowSize) {
+            this.endpoint = endpoint;
+            this.samples = new long[Math.max(1, windowSize)];
+        }
+
+        synchronized void add(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+            totalCount++;
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(samples, size);
+        }
+
+        synchronized long getTotalCount() {
+            return totalCount;
+        }
+
+        /**
+         * @return true when either percentile has just gone over budget
+         */
+        synchronized boolean updateState(boolean p95Now, boolean p99Now) {
+            boolean newBreach = (p95Now && !p95Breached) || (p99Now && !p99Breached);
+            p95Breached = p95Now;
+            p99Breached = p99Now;
+            return newBreach;
+        }
+    }
+
+    /**
+     * Rolling percentiles of one endpoint compared with its budgets
+     */
+    public static class SlaResult {
+        private final String endpoint;
+        private final int samples;
+        private final long p95Millis;
+        private final long p99Millis;
+        private final long p95Budget;
+        private final long p99Budget;
+
+        SlaResult(String endpoint, int samples, long p95Millis, long p99Millis, long p95Budget, long p99Budget) {
+            this.endpoint = endpoint;
+            this.samples = samples;
+            this.p95Millis = p95Millis;
+            this.p99Millis = p99Millis;
+            this.p95Budget = p95Budget;
+            this.p99Budget = p99Budget;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        public long getP95Millis() {
+            return p95Millis;
+        }
+
+        public long getP99Millis() {
+            return p99Millis;
+        }
+
+        public long getP95Budget() {
+            return p95Budget;
+        }
+
+        public long getP99Budget() {
+            return p99Budget;
+        }
+
+        public boolean isWithinBudget() {
+            return p95Millis <= p95Budget && p99Millis <= p99Budget;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s over last %d calls: p95 %d ms (budget %d), p99 %d ms (budget %d)",
+                    endpoint, samples, p95Millis, p95Budget, p99Millis, p99Budget);
+        }
+    }
+
+    /**
+     * An endpoint going over budget, with the test that was running at the time
+     */
+    public static class Breach {
+        private final SlaResult result;
+        private final String testName;
+        private final Instant time = Instant.now();
+
+        Breach(SlaResult result, String testName) {
+            this.result = result;
+            this.testName = testName;
+        }
+
+        public SlaResult getResult() {
+            return result;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        @Override
+        public String toString() {
+            return time + " " + result + " during " + testName;
+        }
+    }
+}
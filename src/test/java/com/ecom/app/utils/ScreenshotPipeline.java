@@ -0,0 +1,155 @@
+package com.ecom.app.utils;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ecom.app.Utilities.ConfigurationUtils;
+import com.ecom.app.Utilities.ScreenshotUtils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+/**
+ * Moves screenshot encoding, disk writes and Allure attachment writes off the test thread.
+ *
+ * The test thread captures once and reserves the Allure attachment, which only records its name in
+ * the running test; a small writer pool then scales/re-encodes the image, saves it to the screenshot
+ * directory and writes the attachment content. The queue is bounded: when it is full, success shots
+ * are dropped and failure shots are written on the calling thread so they are never lost.
+ */
+public class ScreenshotPipeline {
+    private static final Logger log = LogManager.getLogger(ScreenshotPipeline.class);
+
+    private static final ScreenshotPipeline instance = new ScreenshotPipeline();
+
+    private final ThreadPoolExecutor writers;
+    private final Encoding successEncoding;
+    private final Encoding failureEncoding;
+    private final long drainTimeoutSeconds;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private ScreenshotPipeline() {
+        ConfigurationUtils config = ConfigurationUtils.getInstance();
+        int threads = Integer.parseInt(config.getProperty("screenshot.writerThreads", "2").trim());
+        int capacity = Integer.parseInt(config.getProperty("screenshot.queueCapacity", "16").trim());
+        float jpegQuality = Float.parseFloat(config.getProperty("screenshot.jpegQuality", "0.75").trim());
+        this.successEncoding = new Encoding(config.getProperty("screenshot.success.format", "jpeg").trim(),
+                Double.parseDouble(config.getProperty("screenshot.success.scale", "0.5").trim()), jpegQuality);
+        this.failureEncoding = new Encoding(config.getProperty("screenshot.failure.format", "png").trim(),
+                Double.parseDouble(config.getProperty("screenshot.failure.scale", "1.0").trim()), jpegQuality);
+        this.drainTimeoutSeconds = Long.parseLong(config.getProperty("screenshot.drainTimeout", "30").trim());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.writers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, capacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "screenshot-drain"));
+    }
+
+    public static ScreenshotPipeline getInstance() {
+        return instance;
+    }
+
+    /**
+     * Queue a captured screenshot to be encoded, saved and attached to the running test
+     *
+     * @param png            Screenshot bytes from the driver
+     * @param testName       Test name for the file name
+     * @param attachmentName Allure attachment name
+     * @param failure        Failure shots keep full quality and are never dropped
+     */
+    public void submit(byte[] png, String testName, String attachmentName, boolean failure) {
+        if (!failure && writers.getQueue().remainingCapacity() == 0) {
+            dropped.incrementAndGet();
+            log.warn("Screenshot queue full, dropping success screenshot for {}", testName);
+            return;
+        }
+        Encoding encoding = failure ? failureEncoding : successEncoding;
+        // Reserve the attachment now, while this thread still knows which test is running
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.getCurrentTestCase().isPresent()
+                ? lifecycle.prepareAttachment(attachmentName, encoding.mimeType(), "." + encoding.extension())
+                : null;
+        String fileName = ScreenshotUtils.screenshotFileName(testName, failure ? "FAILED_" : "", encoding.extension());
+        Runnable task = () -> write(png, encoding, fileName, lifecycle, source);
+
+        try {
+            writers.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Queue filled up since the check above, or the pool is already draining
+            task.run();
+        }
+    }
+
+    /**
+     * Wait for queued screenshots to be written and stop the writer threads
+     */
+    public void shutdown() {
+        if (writers.isShutdown()) {
+            return;
+        }
+        writers.shutdown();
+        try {
+            if (!writers.awaitTermination(drainTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("Screenshot writers did not drain within {} s; {} still queued", drainTimeoutSeconds,
+                        writers.getQueue().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info(getStatisticsSummary());
+    }
+
+    public String getStatisticsSummary() {
+        return String.format("Screenshots written: %d, dropped (queue full): %d", written.get(), dropped.get());
+    }
+
+    private void write(byte[] png, Encoding encoding, String fileName, AllureLifecycle lifecycle, String source) {
+        try {
+            byte[] image = ScreenshotUtils.encode(png, encoding.format, encoding.scale, encoding.jpegQuality);
+            ScreenshotUtils.saveScreenshot(image, fileName);
+            if (source != null) {
+                lifecycle.writeAttachment(source, new ByteArrayInputStream(image));
+            }
+            written.incrementAndGet();
+        } catch (RuntimeException e) {
+            log.error("Failed to write screenshot {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    private static class Encoding {
+        private final String format;
+        private final double scale;
+        private final float jpegQuality;
+
+        Encoding(String format, double scale, float jpegQuality) {
+            this.format = format.toLowerCase();
+            this.scale = scale;
+            this.jpegQuality = jpegQuality;
+        }
+
+        boolean isJpeg() {
+            return "jpeg".equals(format) || "jpg".equals(format);
+        }
+
+        String extension() {
+            return isJpeg() ? "jpg" : "png";
+        }
+
+        String mimeType() {
+            return isJpeg() ? "image/jpeg" : "image/png";
+        }
+    }
+}